@@ -6,6 +6,7 @@ import com.google.firebase.FirebaseOptions;
 import com.google.firebase.messaging.FirebaseMessaging;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -18,10 +19,12 @@ import java.io.InputStream;
 @Configuration
 public class FirebaseConfig {
 
-    @Value("${firebase.config-path}")
+    @Value("${firebase.config-path:}")
     private String firebaseConfigPath;
 
+    // firebase.enabled=false 이면 생성하지 않음 (로컬/테스트에서는 StubFcmPushSender 사용)
     @Bean
+    @ConditionalOnProperty(name = "firebase.enabled", havingValue = "true", matchIfMissing = true)
     public FirebaseMessaging firebaseMessaging() throws IOException {
         try {
             // ✅ 파일 경로 기반으로 읽기 (JAR 외부 파일도 지원)
@@ -3,7 +3,10 @@ package org.ktb.matajo.config;
 import com.fasterxml.jackson.core.json.JsonWriteFeature;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import org.ktb.matajo.dto.chat.ChatMessageResponseDto;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -13,6 +16,9 @@ import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
 @Configuration
 public class RedisConfig {
 
@@ -47,6 +53,33 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * 채팅 메시지 캐시 전용 RedisTemplate
+     * ChatMessageResponseDto 타입으로 직접 역직렬화하여 LinkedHashMap 변환 과정을 없앱니다.
+     */
+    @Bean
+    public RedisTemplate<String, ChatMessageResponseDto> chatMessageRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, ChatMessageResponseDto> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+
+        // JacksonConfig의 LocalDateTime 직렬화 포맷과 동일한 역직렬화기 등록
+        ObjectMapper chatMessageMapper = objectMapper.copy();
+        SimpleModule dateModule = new SimpleModule("ChatMessageCacheDateModule");
+        dateModule.addDeserializer(LocalDateTime.class,
+                new LocalDateTimeDeserializer(DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm:ss")));
+        chatMessageMapper.registerModule(dateModule);
+
+        Jackson2JsonRedisSerializer<ChatMessageResponseDto> serializer =
+                new Jackson2JsonRedisSerializer<>(chatMessageMapper, ChatMessageResponseDto.class);
+
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(serializer);
+        template.setDefaultSerializer(serializer);
+        template.afterPropertiesSet();
+
+        return template;
+    }
+
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
@@ -0,0 +1,137 @@
+package org.ktb.matajo.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Redis Pub/Sub 기반 브로커 브리지 (chat.broker.mode=redis)
+ * 로컬 심플 브로커로 가는 /topic 메시지를 Redis 채널에도 발행하고,
+ * 다른 노드가 발행한 메시지를 받아 이 노드의 심플 브로커로 전달합니다.
+ * 여러 애플리케이션 인스턴스가 같은 채팅 토픽을 공유할 수 있게 합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+public class RedisStompBrokerBridge implements ChannelInterceptor {
+
+    private static final String BROKER_CHANNEL = "chat:broker";
+    private static final String RELAYED_HEADER = "redisRelayed";
+    private static final String RELAY_DESTINATION_PREFIX = "/topic/";
+
+    // 자신이 발행한 메시지를 다시 전달하지 않기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    // 브로커 설정과의 순환 참조 방지를 위해 지연 조회
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider;
+
+    public RedisStompBrokerBridge(StringRedisTemplate redisTemplate,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  ObjectMapper objectMapper,
+                                  ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.messagingTemplateProvider = messagingTemplateProvider;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> deliverLocally(message.getBody()),
+                new ChannelTopic(BROKER_CHANNEL));
+        log.info("Redis 브로커 브리지 구독 시작: channel={}, nodeId={}", BROKER_CHANNEL, nodeId);
+    }
+
+    /**
+     * 브로커 채널 인터셉터 - 이 노드에서 발생한 /topic 메시지를 Redis로 발행
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE
+                || destination == null
+                || !destination.startsWith(RELAY_DESTINATION_PREFIX)
+                || accessor.getHeader(RELAYED_HEADER) != null
+                || !(message.getPayload() instanceof byte[])) {
+            return message;
+        }
+
+        try {
+            byte[] payload = (byte[]) message.getPayload();
+            MimeType contentType = accessor.getContentType();
+            BrokerEnvelope envelope = new BrokerEnvelope(nodeId, destination,
+                    contentType != null ? contentType.toString() : null,
+                    new String(payload, StandardCharsets.UTF_8));
+            redisTemplate.convertAndSend(BROKER_CHANNEL, objectMapper.writeValueAsString(envelope));
+        } catch (Exception e) {
+            // 발행 실패 시에도 로컬 전달은 계속 진행
+            log.warn("Redis 브로커 메시지 발행 실패: destination={}, 오류={}", destination, e.getMessage());
+        }
+        return message;
+    }
+
+    // 다른 노드에서 발행한 메시지를 로컬 심플 브로커로 전달
+    private void deliverLocally(byte[] body) {
+        try {
+            BrokerEnvelope envelope = objectMapper.readValue(body, BrokerEnvelope.class);
+            if (nodeId.equals(envelope.getNodeId())) {
+                return;
+            }
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(envelope.getDestination());
+            accessor.setHeader(RELAYED_HEADER, Boolean.TRUE);
+            if (envelope.getContentType() != null) {
+                accessor.setContentType(MimeType.valueOf(envelope.getContentType()));
+            }
+            accessor.setLeaveMutable(true);
+            MessageHeaders headers = accessor.getMessageHeaders();
+
+            messagingTemplateProvider.getObject().send(envelope.getDestination(),
+                    MessageBuilder.createMessage(
+                            envelope.getPayload().getBytes(StandardCharsets.UTF_8), headers));
+        } catch (Exception e) {
+            log.warn("Redis 브로커 메시지 전달 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 노드 간 전달되는 브로커 메시지
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class BrokerEnvelope {
+        private String nodeId;
+        private String destination;
+        private String contentType;
+        private String payload;
+    }
+}
@@ -1,27 +1,25 @@
 package org.ktb.matajo.config;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.text.StringEscapeUtils;
 import org.ktb.matajo.security.JwtUtil;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.http.server.ServletServerHttpRequest;
-import org.springframework.messaging.Message;
-import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.messaging.simp.stomp.StompCommand;
-import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
-import org.springframework.messaging.support.ChannelInterceptor;
-import org.springframework.messaging.support.MessageBuilder;
-import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -29,7 +27,7 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import org.springframework.web.socket.server.HandshakeInterceptor;
 
-import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -45,10 +43,52 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private final ObjectMapper objectMapper;
     private final JwtUtil jwtUtil;
 
+    // Redis Pub/Sub 브로커 브리지 (chat.broker.mode=redis 일 때만 존재)
+    private final ObjectProvider<RedisStompBrokerBridge> redisBrokerBridge;
 
-    public WebSocketConfig(ObjectMapper objectMapper, JwtUtil jwtUtil) {
+    // 브로커 모드 (simple: 단일 노드 심플 브로커, relay: 외부 STOMP 브로커, redis: 심플 브로커 + Redis 노드 간 전달)
+    @Value("${chat.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${chat.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${chat.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${chat.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${chat.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    // STOMP 채널 실행기 설정
+    @Value("${chat.websocket.inbound.virtual-threads:false}")
+    private boolean inboundVirtualThreads;
+
+    @Value("${chat.websocket.inbound.core-pool-size:4}")
+    private int inboundCorePoolSize;
+
+    @Value("${chat.websocket.inbound.max-pool-size:16}")
+    private int inboundMaxPoolSize;
+
+    @Value("${chat.websocket.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+
+    @Value("${chat.websocket.outbound.core-pool-size:4}")
+    private int outboundCorePoolSize;
+
+    @Value("${chat.websocket.outbound.max-pool-size:16}")
+    private int outboundMaxPoolSize;
+
+    @Value("${chat.websocket.outbound.queue-capacity:1000}")
+    private int outboundQueueCapacity;
+
+    public WebSocketConfig(ObjectMapper objectMapper, JwtUtil jwtUtil,
+                           ObjectProvider<RedisStompBrokerBridge> redisBrokerBridge) {
         this.objectMapper = objectMapper;
         this.jwtUtil = jwtUtil;
+        this.redisBrokerBridge = redisBrokerBridge;
     }
 
     /**
@@ -60,13 +100,34 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // /topic, /queue 접두사로 시작하는 목적지를 구독 가능하도록 설정
         // /topic: 일대다 메시지 브로드캐스팅(채팅방 전체 메시지)
         // /queue: 일대일 메시지 전송(개인 알림, 오류 메시지)
-        registry.enableSimpleBroker("/topic", "/queue");
+        if ("relay".equals(brokerMode)) {
+            // 외부 STOMP 브로커(RabbitMQ, ActiveMQ 등)로 중계 - 모든 인스턴스가 같은 토픽 공유
+            registry.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode);
+            log.info("STOMP 브로커 릴레이 모드: {}:{}", relayHost, relayPort);
+        } else {
+            registry.enableSimpleBroker("/topic", "/queue");
+
+            // redis 모드: 로컬 /topic 메시지를 Redis로 발행하고 다른 노드 메시지를 수신
+            redisBrokerBridge.ifAvailable(bridge -> {
+                registry.configureBrokerChannel().interceptors(bridge);
+                log.info("심플 브로커 + Redis Pub/Sub 노드 간 전달 모드");
+            });
+        }
 
         // 클라이언트에서 서버로 메시지를 보낼 때 사용할 접두사 설정
         registry.setApplicationDestinationPrefixes("/app");
 
         // 특정 사용자에게 메시지를 보낼 때 사용하는 접두사 설정
         registry.setUserDestinationPrefix("/user");
+
+        // 스레드 풀에서도 세션별 발신 순서 보장
+        registry.setPreservePublishOrder(true);
     }
 
     /**
@@ -75,6 +136,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
      */
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
+        // 스레드 풀/가상 스레드에서도 세션별 수신 순서 보장
+        registry.setPreserveReceiveOrder(true);
+
         registry.addEndpoint("/ws-chat")           // WebSocket 연결 엔드포인트 URL
                 .setAllowedOrigins("http://localhost:3000",
                         "https://matajo.store",
@@ -143,18 +207,17 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     /**
      * 클라이언트 인바운드 채널 설정
-     * 클라이언트에서 서버로 들어오는 메시지 처리를 위한 스레드 풀 구성
-     * XSS 방지 인터셉터 추가
+     * 클라이언트에서 서버로 들어오는 메시지 처리를 위한 실행기 구성
      */
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.taskExecutor()
-                .corePoolSize(2)       // 기본 스레드 수
-                .maxPoolSize(8)        // 최대 스레드 수
-                .queueCapacity(100);   // 작업 큐 용량
-
-        // XSS 방지 인터셉터 추가 - JacksonConfig의 ObjectMapper 주입
-        registration.interceptors(new XssProtectionChannelInterceptor(objectMapper));
+        if (inboundVirtualThreads) {
+            // 메시지 처리(JPA 저장 등 블로킹 I/O)를 가상 스레드에서 실행 - 스레드 수 제한 없이 대기 작업 흡수
+            registration.executor(new VirtualThreadTaskExecutor("stomp-inbound-"));
+            log.info("STOMP 인바운드 채널: 가상 스레드 실행기 사용");
+        } else {
+            registration.executor(stompInboundExecutor());
+        }
     }
 
     /**
@@ -163,101 +226,80 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
      */
     @Override
     public void configureClientOutboundChannel(ChannelRegistration registration) {
-        registration.taskExecutor()
-                .corePoolSize(2)       // 기본 스레드 수
-                .maxPoolSize(8)        // 최대 스레드 수
-                .queueCapacity(100);   // 작업 큐 용량
+        registration.executor(stompOutboundExecutor());
     }
 
     /**
-     * 세션 정리 기능을 위한 스케줄러 빈 등록
+     * 인바운드 채널 스레드 풀 (chat.websocket.inbound.*)
      */
     @Bean
-    public SessionCleanupScheduler sessionCleanupScheduler(WebSocketEventListener eventListener) {
-        return new SessionCleanupScheduler(eventListener);
+    public ThreadPoolTaskExecutor stompInboundExecutor() {
+        return createChannelExecutor("stomp-inbound-", inboundCorePoolSize, inboundMaxPoolSize, inboundQueueCapacity);
     }
 
     /**
-     * WebSocket 메시지에 대한 XSS 보호 인터셉터
-     * 정적 클래스가 아닌 일반 내부 클래스로 변경
+     * 아웃바운드 채널 스레드 풀 (chat.websocket.outbound.*)
      */
-    private class XssProtectionChannelInterceptor implements ChannelInterceptor {
-        private final ObjectMapper objectMapper;
-
-        public XssProtectionChannelInterceptor(ObjectMapper objectMapper) {
-            this.objectMapper = objectMapper;
-        }
-
-        @Override
-        public Message<?> preSend(Message<?> message, MessageChannel channel) {
-            StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+    @Bean
+    public ThreadPoolTaskExecutor stompOutboundExecutor() {
+        return createChannelExecutor("stomp-outbound-", outboundCorePoolSize, outboundMaxPoolSize, outboundQueueCapacity);
+    }
 
-            if (accessor != null && StompCommand.SEND.equals(accessor.getCommand())) {
-                // STOMP SEND 명령인 경우 (클라이언트→서버 메시지)
-                Object payload = message.getPayload();
+    private ThreadPoolTaskExecutor createChannelExecutor(String threadNamePrefix, int corePoolSize,
+                                                         int maxPoolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(corePoolSize);     // 기본 스레드 수
+        executor.setMaxPoolSize(maxPoolSize);       // 최대 스레드 수
+        executor.setQueueCapacity(queueCapacity);   // 작업 큐 용량
+        executor.setAllowCoreThreadTimeOut(true);
+        return executor;
+    }
 
-                if (payload instanceof byte[]) {
-                    try {
-                        // 메시지 페이로드 파싱
-                        String messageContent = new String((byte[]) payload, StandardCharsets.UTF_8);
+    /**
+     * 채널 실행기 대기열/활성 스레드 지표 등록
+     */
+    @Bean
+    public MeterBinder stompChannelExecutorMetrics() {
+        ThreadPoolTaskExecutor inboundExecutor = stompInboundExecutor();
+        ThreadPoolTaskExecutor outboundExecutor = stompOutboundExecutor();
 
-                        // 메시지 타입에 따라 다른 처리 적용
-                        String destination = accessor.getDestination();
-                        if (destination != null && destination.startsWith("/app/chat/")) {
-                            // 채팅 메시지인 경우 필터링 적용
-                            return sanitizeChatMessage(messageContent, accessor, message);
-                        }
-                    } catch (Exception e) {
-                        // 예외 발생 시 로깅하고 원본 메시지 반환
-                        log.error("메시지 처리 중 예외 발생: " + e.getMessage());
-                        e.printStackTrace();
-                        return message;
-                    }
-                }
+        return registry -> {
+            if (!inboundVirtualThreads) {
+                bindExecutorGauges(registry, "inbound", inboundExecutor);
             }
+            bindExecutorGauges(registry, "outbound", outboundExecutor);
+        };
+    }
 
-            return message;
-        }
+    private void bindExecutorGauges(MeterRegistry registry, String channel, ThreadPoolTaskExecutor executor) {
+        Gauge.builder("stomp.channel.queue.size", executor,
+                        e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("STOMP 채널 실행기 대기 작업 수")
+                .tag("channel", channel)
+                .register(registry);
+        Gauge.builder("stomp.channel.active.threads", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("STOMP 채널 실행기 활성 스레드 수")
+                .tag("channel", channel)
+                .register(registry);
+    }
 
-        /**
-         * 채팅 메시지 내용 필터링
-         */
-        private Message<?> sanitizeChatMessage(String messageContent,
-                                               StompHeaderAccessor accessor,
-                                               Message<?> originalMessage) {
-            try {
-                // JSON 파싱
-                JsonNode rootNode = objectMapper.readTree(messageContent);
-
-                // messageType 확인 (TEXT, IMAGE, SYSTEM)
-                String messageType = rootNode.path("messageType").asText();
-
-                // 필터링 적용
-                ObjectNode modifiedNode = (ObjectNode) rootNode;
-
-                if ("TEXT".equals(messageType)) {
-                    // 텍스트 메시지는 HTML 이스케이프 처리
-                    String content = rootNode.path("content").asText();
-                    String sanitized = StringEscapeUtils.escapeHtml4(content);
-                    modifiedNode.put("content", sanitized);
-                } else if ("IMAGE".equals(messageType)) {
-                    // 이미지 메시지는 URL 검증
-                    String imageUrl = rootNode.path("content").asText();
-                }
-
-                // 필터링된 메시지로 교체
-                String sanitizedContent = objectMapper.writeValueAsString(modifiedNode);
-                return MessageBuilder.createMessage(
-                        sanitizedContent.getBytes(StandardCharsets.UTF_8),
-                        accessor.getMessageHeaders()
-                );
-            } catch (Exception e) {
-                // 예외 발생 시 상세 로깅 및 원본 메시지 반환
-                log.error("채팅 메시지 필터링 중 오류 발생: " + e.getMessage());
-                e.printStackTrace();
-                return originalMessage;
-            }
-        }
+    /**
+     * STOMP 메시지 변환기 설정
+     * 채팅 메시지 요청은 XSS 필터링 변환기로 한 번만 파싱하고, 나머지는 기본 변환기를 사용합니다.
+     */
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        // JacksonConfig의 ObjectMapper 사용, 기본 변환기보다 먼저 적용되도록 맨 앞에 추가
+        messageConverters.add(0, new XssSanitizingMessageConverter(objectMapper));
+        return true;
+    }
 
+    /**
+     * 세션 정리 기능을 위한 스케줄러 빈 등록
+     */
+    @Bean
+    public SessionCleanupScheduler sessionCleanupScheduler(WebSocketEventListener eventListener) {
+        return new SessionCleanupScheduler(eventListener);
     }
-}
\ No newline at end of file
+}
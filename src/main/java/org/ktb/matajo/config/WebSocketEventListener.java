@@ -2,10 +2,9 @@ package org.ktb.matajo.config;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.ktb.matajo.dto.chat.ChatMessageResponseDto;
-import org.ktb.matajo.entity.MessageType;
 import org.ktb.matajo.global.common.ErrorResponse;
 import org.ktb.matajo.global.error.exception.BusinessException;
+import org.ktb.matajo.service.chat.ChatEphemeralEventBroadcaster;
 import org.ktb.matajo.service.chat.ChatMessageService;
 import org.ktb.matajo.service.chat.ChatSessionService;
 import org.springframework.context.event.EventListener;
@@ -21,7 +20,6 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
@@ -31,8 +29,9 @@ public class WebSocketEventListener {
     private final ChatSessionService chatSessionService;
     private final ChatMessageService chatMessageService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ChatEphemeralEventBroadcaster chatEphemeralEventBroadcaster;
 
-    // 웹소켓 세션 ID와 구독 정보 매핑
+    // 웹소켓 세션 ID와 구독 정보 매핑 (구독 ID -> 채팅방 ID, 채팅방 기본 토픽 구독만 기록)
     private final Map<String, Map<String, Long>> sessionSubscriptions = new ConcurrentHashMap<>();
 
     // 세션별 연결 오류 횟수 관리 (DoS 방지)
@@ -85,15 +84,13 @@ public class WebSocketEventListener {
 
         if (destination != null && destination.startsWith("/topic/chat/")) {
             try {
-                // 오류 채널 구독은 무시 ("/topic/chat/{roomId}/error")
-                if (destination.contains("/error")) {
+                // 채팅방 기본 토픽("/topic/chat/{roomId}")만 입장으로 처리
+                // 상태·입력 중·접속 상태·오류 등 하위 토픽 구독은 채팅방을 보고 있는지와 무관하므로 무시
+                String path = destination.substring("/topic/chat/".length());
+                if (path.contains("/") || path.equals("unread")) {
                     return;
                 }
-
-                // "/topic/chat/{roomId}" 형식에서 roomId 추출
-                String path = destination.substring("/topic/chat/".length());
-                String roomIdStr = path.contains("/") ? path.substring(0, path.indexOf('/')) : path;
-                Long roomId = Long.parseLong(roomIdStr);
+                Long roomId = Long.parseLong(path);
 
                 // 세션 속성에서 userId 확인 (핸드셰이크에서 저장한 정보)
                 Map<String, Object> sessionAttributes = headers.getSessionAttributes();
@@ -119,14 +116,16 @@ public class WebSocketEventListener {
                     return;
                 }
 
-                // 세션 구독 정보 저장
-                if (sessionSubscriptions.containsKey(sessionId)) {
-                    sessionSubscriptions.get(sessionId).put(destination, roomId);
+                // 세션 구독 정보 저장 (UNSUBSCRIBE 프레임에는 destination 이 없으므로 구독 ID로 기록)
+                String subscriptionId = headers.getSubscriptionId();
+                if (subscriptionId != null && sessionSubscriptions.containsKey(sessionId)) {
+                    sessionSubscriptions.get(sessionId).put(subscriptionId, roomId);
                 }
 
                 try {
                     // 채팅방 입장 처리
                     chatSessionService.userJoinedRoom(roomId, userId);
+                    chatEphemeralEventBroadcaster.presenceChanged(roomId, userId, false);
 
                     log.info("채팅방 구독 완료: roomId={}, userId={}, sessionId={}",
                             roomId, userId, sessionId);
@@ -154,17 +153,17 @@ public class WebSocketEventListener {
     public void handleSessionUnsubscribe(SessionUnsubscribeEvent event) {
         StompHeaderAccessor headers = StompHeaderAccessor.wrap(event.getMessage());
         String sessionId = headers.getSessionId();
-        String destination = headers.getDestination();
+        String subscriptionId = headers.getSubscriptionId();
 
         // 활동 시간 업데이트
         sessionLastActivity.put(sessionId, LocalDateTime.now());
 
-        if (destination != null && destination.startsWith("/topic/chat/")) {
+        if (subscriptionId != null) {
             try {
-                // 세션 구독 정보에서 채팅방 ID 조회
+                // 세션 구독 정보에서 채팅방 ID 조회 (채팅방 기본 토픽 구독 해제만 퇴장으로 처리)
                 Map<String, Long> subscriptions = sessionSubscriptions.get(sessionId);
-                if (subscriptions != null && subscriptions.containsKey(destination)) {
-                    Long roomId = subscriptions.get(destination);
+                if (subscriptions != null && subscriptions.containsKey(subscriptionId)) {
+                    Long roomId = subscriptions.get(subscriptionId);
 
                     // userId 확인 (세션 속성 먼저, 그 다음 헤더)
                     Long userId = null;
@@ -191,10 +190,10 @@ public class WebSocketEventListener {
                             chatSessionService.userLeftRoom(roomId, userId);
 
                             // 구독 정보에서 제거
-                            subscriptions.remove(destination);
+                            subscriptions.remove(subscriptionId);
 
-                            // 시스템 메시지 전송 (선택사항)
-                            sendSystemMessage(roomId, userId, "사용자가 채팅방을 나갔습니다.");
+                            // 접속 상태 변경은 저장하지 않는 휘발성 이벤트로 전파
+                            chatEphemeralEventBroadcaster.presenceChanged(roomId, userId, true);
 
                             log.info("채팅방 구독 해제: roomId={}, userId={}, sessionId={}",
                                     roomId, userId, sessionId);
@@ -205,7 +204,7 @@ public class WebSocketEventListener {
                         }
                     } else {
                         // userId 헤더가 없어도 구독 정보는 정리
-                        subscriptions.remove(destination);
+                        subscriptions.remove(subscriptionId);
                         log.debug("userId 없이 채팅방 구독 해제: roomId={}, sessionId={}",
                                 roomId, sessionId);
                     }
@@ -244,6 +243,7 @@ public class WebSocketEventListener {
                             Long roomId = entry.getValue();
                             try {
                                 chatSessionService.userLeftRoom(roomId, userId);
+                                chatEphemeralEventBroadcaster.presenceChanged(roomId, userId, true);
                                 log.debug("연결 종료로 인한 채팅방 퇴장: roomId={}, userId={}", roomId, userId);
                             } catch (Exception e) {
                                 log.warn("연결 종료 시 채팅방 퇴장 처리 실패: {}", e.getMessage());
@@ -275,29 +275,11 @@ public class WebSocketEventListener {
         // 활동 시간 업데이트
         sessionLastActivity.put(sessionId, LocalDateTime.now());
 
-        // 세션이 해당 채팅방을 구독 중인지 확인
-        Map<String, Long> subscriptions = sessionSubscriptions.get(sessionId);
-        if (subscriptions != null) {
-            // 해당 채팅방 구독이 없는 경우 확인
-            boolean hasRoomSubscription = subscriptions.values().contains(roomId);
-
-            if (!hasRoomSubscription) {
-                // 구독 정보 동기화 (정리되었지만 실제로는 활성 상태인 경우)
-                log.debug("Heartbeat을 통한 구독 정보 복구: roomId={}, userId={}, sessionId={}",
-                        roomId, userId, sessionId);
-
-                // 채팅방 세션 활성화 상태 업데이트
-                try {
-                    // 채팅방에 사용자가 활성화 상태인지 확인
-                    Set<Long> activeUsers = chatSessionService.getActiveUsersInRoom(roomId);
-                    if (!activeUsers.contains(userId)) {
-                        chatSessionService.userJoinedRoom(roomId, userId);
-                        log.info("Heartbeat을 통한 사용자 재활성화: roomId={}, userId={}", roomId, userId);
-                    }
-                } catch (Exception e) {
-                    log.warn("Heartbeat 처리 중 세션 복구 오류: {}", e.getMessage());
-                }
-            }
+        // 접속 상태 유지 시간 갱신 (Redis 저장소는 TTL 연장, 정리된 경우 재등록)
+        try {
+            chatSessionService.refreshPresence(roomId, userId);
+        } catch (Exception e) {
+            log.warn("Heartbeat 처리 중 접속 상태 갱신 오류: {}", e.getMessage());
         }
     }
 
@@ -335,28 +317,6 @@ public class WebSocketEventListener {
         }).start();
     }
 
-    /**
-     * 시스템 메시지 전송
-     */
-    private void sendSystemMessage(Long roomId, Long userId, String content) {
-        try {
-            ChatMessageResponseDto message = ChatMessageResponseDto.builder()
-                    .messageId(-1L) // 시스템 메시지 식별용
-                    .roomId(roomId)
-                    .senderId(0L) // 시스템 메시지는 senderId 0 사용
-                    .senderNickname("시스템")
-                    .content(content)
-                    .messageType(MessageType.SYSTEM)
-                    .readStatus(true)
-                    .createdAt(LocalDateTime.now())
-                    .build();
-
-            messagingTemplate.convertAndSend("/topic/chat/" + roomId, message);
-        } catch (Exception e) {
-            log.warn("시스템 메시지 전송 중 오류: {}", e.getMessage());
-        }
-    }
-
     /**
      * 오류 메시지 전송
      */
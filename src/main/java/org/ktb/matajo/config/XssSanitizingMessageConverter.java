@@ -0,0 +1,59 @@
+package org.ktb.matajo.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.text.StringEscapeUtils;
+import org.ktb.matajo.dto.chat.ChatMessageRequestDto;
+import org.ktb.matajo.entity.MessageType;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+
+/**
+ * 채팅 메시지 요청 전용 STOMP 메시지 변환기
+ * 페이로드를 ChatMessageRequestDto로 한 번만 파싱하고, 파싱 결과에서 바로 TEXT 메시지 내용을 HTML 이스케이프합니다.
+ * (기존 인터셉터의 문자열 변환 → JSON 트리 파싱 → 재직렬화 → 재파싱 과정을 제거)
+ */
+public class XssSanitizingMessageConverter extends MappingJackson2MessageConverter {
+
+    public XssSanitizingMessageConverter(ObjectMapper objectMapper) {
+        setObjectMapper(objectMapper);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ChatMessageRequestDto.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected Object convertFromInternal(Message<?> message, Class<?> targetClass, Object conversionHint) {
+        Object converted = super.convertFromInternal(message, targetClass, conversionHint);
+
+        if (converted instanceof ChatMessageRequestDto) {
+            sanitize((ChatMessageRequestDto) converted);
+        }
+        return converted;
+    }
+
+    // 텍스트 메시지는 HTML 이스케이프 처리 (이스케이프 대상 문자가 없으면 원본 그대로 사용)
+    private void sanitize(ChatMessageRequestDto messageDto) {
+        String content = messageDto.getContent();
+        if (MessageType.TEXT.equals(messageDto.getMessageType()) && needsEscape(content)) {
+            messageDto.updateContent(StringEscapeUtils.escapeHtml4(content));
+        }
+    }
+
+    // escapeHtml4가 변환할 수 있는 문자가 있는지 확인
+    // (<, >, &, " 및 HTML 4 엔티티가 정의된 U+00A0 ~ U+2666 범위 - 한글 등은 해당 없음)
+    private boolean needsEscape(String content) {
+        if (content == null) {
+            return false;
+        }
+
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (c == '<' || c == '>' || c == '&' || c == '"' || (c >= '\u00A0' && c <= '\u2666')) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
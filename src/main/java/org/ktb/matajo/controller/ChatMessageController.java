@@ -13,9 +13,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.ktb.matajo.config.WebSocketEventListener;
 import org.ktb.matajo.dto.chat.ChatMessageRequestDto;
 import org.ktb.matajo.dto.chat.ChatMessageResponseDto;
+import org.ktb.matajo.dto.chat.ChatSyncRequestDto;
+import org.ktb.matajo.dto.chat.ChatSyncResponseDto;
 import org.ktb.matajo.entity.MessageType;
 import org.ktb.matajo.global.common.CommonResponse;
 import org.ktb.matajo.security.SecurityUtil;
+import org.ktb.matajo.service.chat.ChatEphemeralEventBroadcaster;
+import org.ktb.matajo.service.chat.ChatMessageGroupCommitter;
 import org.ktb.matajo.service.chat.ChatMessageService;
 import org.ktb.matajo.service.chat.ChatSessionService;
 import org.ktb.matajo.service.notification.NotificationService;
@@ -28,6 +32,7 @@ import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -40,9 +45,11 @@ import java.util.Set;
 public class ChatMessageController {
 
     private final ChatMessageService chatMessageService;
+    private final ChatMessageGroupCommitter chatMessageGroupCommitter;
     private final SimpMessagingTemplate messagingTemplate;
     private final ChatSessionService chatSessionService;
     private final WebSocketEventListener webSocketEventListener;
+    private final ChatEphemeralEventBroadcaster chatEphemeralEventBroadcaster;
 
     /**
      * 클라이언트 Heartbeat 처리 (연결 상태 확인)
@@ -75,6 +82,34 @@ public class ChatMessageController {
         }
     }
 
+    /**
+     * 입력 중 상태 전송 (저장하지 않는 휘발성 이벤트)
+     * 채팅방별로 짧은 주기마다 병합하여 /topic/chat/{roomId}/typing 으로 전파됨
+     */
+    @Operation(summary = "WebSocket 입력 중 상태 전송",
+            description = "입력 중 여부를 전송합니다. 저장·알림 없이 짧은 주기로 병합되어 " +
+                    "/topic/chat/{roomId}/typing 으로 전파되며, 갱신이 없으면 몇 초 뒤 자동 해제됩니다 (WebSocket API)")
+    @MessageMapping("/{roomId}/typing")
+    public void handleTyping(
+            @DestinationVariable Long roomId,
+            @Payload Map<String, Object> payload) {
+        try {
+            if (payload == null || !payload.containsKey("userId")) {
+                log.debug("입력 중 상태 누락된 필수 파라미터: roomId={}", roomId);
+                return;
+            }
+
+            Long userId = Long.valueOf(payload.get("userId").toString());
+            // typing 값이 없으면 입력 중으로 간주
+            boolean typing = !Boolean.FALSE.toString().equals(String.valueOf(payload.get("typing")));
+
+            chatEphemeralEventBroadcaster.typing(roomId, userId, typing);
+        } catch (Exception e) {
+            // 입력 중 표시는 부가 기능이므로 로그만 남김
+            log.debug("입력 중 상태 처리 중 오류: {}", e.getMessage());
+        }
+    }
+
     /**
      * WebSocket을 통한 메시지 전송
      * /app/{roomId} 엔드포인트로 메시지가 전송됨
@@ -94,39 +129,154 @@ public class ChatMessageController {
             log.info("이미지 메시지 처리: content(URL)={}", messageDto.getContent());
         }
 
-        // 메시지 저장 및 처리
-        ChatMessageResponseDto response = chatMessageService.saveMessage(roomId, messageDto);
-
-        // 메시지를 특정 채팅방 구독자들에게 브로드캐스트
-        messagingTemplate.convertAndSend("/topic/chat/" + roomId, response);
-
+        // 그룹 커밋이 켜져 있으면 배치 저장 큐에 적재(가득 차면 거절, 순서 보장을 위해 동기 저장으로 우회하지 않음), 아니면 바로 저장
+        // (어느 쪽이든 채팅방 구독자 브로드캐스트는 커밋 후 아웃박스 릴레이가 전파)
+        if (!chatMessageGroupCommitter.submit(roomId, messageDto)) {
+            chatMessageService.saveMessage(roomId, messageDto);
+        }
     }
 
     /**
      * 채팅방의 메시지 목록 조회
      */
-    @Operation(summary = "채팅 메시지 목록 조회", description = "특정 채팅방의 메시지 목록을 페이징하여 조회합니다")
+    @Operation(summary = "채팅 메시지 목록 조회",
+            description = "특정 채팅방의 메시지 목록을 messageId 커서 기반으로 조회합니다. " +
+                    "커서가 없으면 최신 메시지를, beforeMessageId가 있으면 그 이전 메시지를, " +
+                    "afterMessageId가 있으면 그 이후 메시지를 반환하며 결과는 messageId 오름차순입니다")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "메시지 목록 조회 성공",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = CommonResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 limit"),
             @ApiResponse(responseCode = "401", description = "인증 실패"),
             @ApiResponse(responseCode = "404", description = "채팅방 없음")
     })
     @GetMapping("/{roomId}/message")
     public ResponseEntity<CommonResponse<List<ChatMessageResponseDto>>> getChatMessages(
             @Parameter(description = "채팅방 ID", required = true)
-            @PathVariable Long roomId ) {
+            @PathVariable Long roomId,
+
+            @Parameter(description = "이 메시지 ID 이전의 메시지 조회 (이전 페이지)", example = "120")
+            @RequestParam(required = false) Long beforeMessageId,
 
-        log.info("채팅 메시지 조회: roomId={}", roomId);
+            @Parameter(description = "이 메시지 ID 이후의 메시지 조회 (누락분 조회)", example = "150")
+            @RequestParam(required = false) Long afterMessageId,
 
-        List<ChatMessageResponseDto> messages = chatMessageService.getChatMessages(roomId);
+            @Parameter(description = "조회할 메시지 수 (최대 100)", example = "50")
+            @RequestParam(defaultValue = "50") int limit) {
+
+        log.info("채팅 메시지 조회: roomId={}, before={}, after={}, limit={}",
+                roomId, beforeMessageId, afterMessageId, limit);
+
+        List<ChatMessageResponseDto> messages =
+                chatMessageService.getChatMessages(roomId, beforeMessageId, afterMessageId, limit);
 
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(CommonResponse.success("get_messages_success", messages));
     }
 
+    /**
+     * 참여 중인 채팅방 일괄 동기화
+     */
+    @Operation(summary = "채팅방 일괄 동기화",
+            description = "재연결 후 채팅방별 마지막으로 받은 메시지 ID를 보내면 참여 중인 모든 채팅방의 새 메시지, " +
+                    "읽음 워터마크, 새로 참여하거나 나간 채팅방을 한 번에 반환합니다. " +
+                    "메시지는 채팅방당 최대 50개, 전체 최대 500개이며 초과분은 hasMore로 표시됩니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "동기화 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CommonResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 메시지 ID"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @PostMapping("/sync")
+    public ResponseEntity<CommonResponse<ChatSyncResponseDto>> syncChatRooms(
+            @RequestBody(required = false) ChatSyncRequestDto requestDto) {
+
+        Long userId = SecurityUtil.getCurrentUserId();
+
+        Map<Long, Long> lastSeenMessageIds = requestDto != null ? requestDto.getLastSeenMessageIds() : null;
+        log.info("채팅방 일괄 동기화 요청: userId={}, knownRooms={}",
+                userId, lastSeenMessageIds != null ? lastSeenMessageIds.size() : 0);
+
+        ChatSyncResponseDto syncResult = chatMessageService.syncChatRooms(userId, lastSeenMessageIds);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(CommonResponse.success("sync_chat_rooms_success", syncResult));
+    }
+
+    /**
+     * 메시지 순번 구간 재동기화
+     */
+    @Operation(summary = "채팅 메시지 누락 구간 재동기화",
+            description = "재연결 후 마지막으로 받은 seq 다음부터 누락된 메시지만 seq 오름차순으로 조회합니다. " +
+                    "한 번에 최대 100개를 반환하며, 더 남은 경우 마지막 seq 다음부터 다시 요청합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "누락 메시지 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CommonResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 순번 구간"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/{roomId}/message/resync")
+    public ResponseEntity<CommonResponse<List<ChatMessageResponseDto>>> resyncChatMessages(
+            @Parameter(description = "채팅방 ID", required = true)
+            @PathVariable Long roomId,
+
+            @Parameter(description = "조회 시작 순번 (포함)", required = true, example = "41")
+            @RequestParam Long fromSeq,
+
+            @Parameter(description = "조회 끝 순번 (포함, 없으면 최신까지)", example = "45")
+            @RequestParam(required = false) Long toSeq) {
+
+        log.info("채팅 메시지 재동기화: roomId={}, fromSeq={}, toSeq={}", roomId, fromSeq, toSeq);
+
+        List<ChatMessageResponseDto> messages = chatMessageService.getMessagesBySeqRange(roomId, fromSeq, toSeq);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(CommonResponse.success("resync_messages_success", messages));
+    }
+
+    /**
+     * WebSocket을 통한 메시지 순번 구간 재동기화
+     * 누락 메시지는 요청한 사용자에게만 /user/queue/chat/resync 로 전송됩니다.
+     */
+    @MessageMapping("/{roomId}/resync")
+    public void resyncChatMessages(
+            @DestinationVariable Long roomId,
+            @Payload Map<String, Object> payload) {
+
+        try {
+            Long userId = Long.valueOf(payload.get("userId").toString());
+            Long fromSeq = Long.valueOf(payload.get("fromSeq").toString());
+            Long toSeq = payload.get("toSeq") != null ? Long.valueOf(payload.get("toSeq").toString()) : null;
+
+            log.info("WebSocket 재동기화 처리: roomId={}, userId={}, fromSeq={}, toSeq={}", roomId, userId, fromSeq, toSeq);
+
+            List<ChatMessageResponseDto> messages = chatMessageService.getMessagesBySeqRange(roomId, fromSeq, toSeq);
+
+            Map<String, Object> resyncResponse = new HashMap<>();
+            resyncResponse.put("type", "RESYNC");
+            resyncResponse.put("roomId", roomId);
+            resyncResponse.put("messages", messages);
+
+            messagingTemplate.convertAndSendToUser(userId.toString(), "/queue/chat/resync", resyncResponse);
+        } catch (Exception e) {
+            log.error("WebSocket 재동기화 처리 중 오류: {}", e.getMessage(), e);
+            if (payload.containsKey("userId")) {
+                Long userId = Long.valueOf(payload.get("userId").toString());
+                messagingTemplate.convertAndSendToUser(
+                        userId.toString(),
+                        "/queue/errors",
+                        "메시지 재동기화 중 오류가 발생했습니다."
+                );
+            }
+        }
+    }
+
 //    /**
 //     * 메시지 읽음 상태 업데이트
 //     */
@@ -10,8 +10,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.Collections;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.ktb.matajo.dto.location.LocationHomeResponseDto;
 import org.ktb.matajo.dto.location.LocationIdResponseDto;
 import org.ktb.matajo.global.common.CommonResponse;
+import org.ktb.matajo.service.location.LocationHomeService;
 import org.ktb.matajo.service.location.LocationInfoService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -29,6 +31,7 @@ import java.util.List;
 public class LocationController {
 
     private final LocationInfoService locationInfoService;
+    private final LocationHomeService locationHomeService;
 
     @Operation(
         summary = "동 이름 자동완성 검색",
@@ -109,4 +112,32 @@ public class LocationController {
         return ResponseEntity.ok(CommonResponse.success("location_find_success", locations));
     }
 
+    @Operation(
+        summary = "동네 홈 화면 통합 조회",
+        description = "동네 게시글, 지역 특가, 최근 거래 내역, 보관소 목록을 한 번에 조회합니다. 동네 단위 스냅샷에서 제공되며 게시글·거래 변경 시 갱신됩니다."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = CommonResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "잘못된 위치 정보 ID",
+            content = @Content(schema = @Schema(implementation = CommonResponse.class))
+        )
+    })
+    @GetMapping("/home")
+    public ResponseEntity<CommonResponse<LocationHomeResponseDto>> getLocationHome(
+            @Parameter(description = "위치 정보 ID", required = true, example = "1")
+            @RequestParam("locationInfoId") Long locationInfoId) {
+
+        log.info("동네 홈 화면 조회 요청: locationInfoId={}", locationInfoId);
+
+        LocationHomeResponseDto home = locationHomeService.getLocationHome(locationInfoId);
+
+        return ResponseEntity.ok(CommonResponse.success("get_location_home_success", home));
+    }
+
 }
@@ -13,6 +13,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.ktb.matajo.dto.location.LocationDealResponseDto;
 import org.ktb.matajo.dto.location.LocationPostResponseDto;
 import org.ktb.matajo.dto.post.*;
+import org.ktb.matajo.dto.storage.NearbyStorageResponseDto;
 import org.ktb.matajo.dto.storage.StorageResponseDto;
 import org.ktb.matajo.global.common.CommonResponse;
 import org.ktb.matajo.global.common.ErrorResponse;
@@ -52,7 +53,7 @@ public class PostController {
     public ResponseEntity<CommonResponse<List<PostListResponseDto>>> getPostList(
         @Parameter(description = "필터링할 태그 목록 (콤마로 구분)", example = "실내,전자기기,실외")
         @RequestParam(required = false) String tags,
-        @Parameter(description = "조회 시작 위치", example = "0")
+        @Parameter(description = "조회 시작 위치 (건너뛸 게시글 수)", example = "0")
         @RequestParam(defaultValue = "0") int offset,
         @Parameter(description = "조회할 게시글 수", example = "10") 
         @RequestParam(defaultValue = "10") int limit) {
@@ -74,6 +75,32 @@ public class PostController {
         return ResponseEntity.ok(CommonResponse.success("get_posts_success", postList));
     }
 
+    @Operation(
+        summary = "게시글 목록 커서 기반 조회",
+        description = "cursor 파라미터가 있으면 (작성일시, 게시글 ID) 키셋 커서로 게시글 목록을 조회합니다. 첫 페이지는 빈 cursor로 요청하고, 이후에는 응답의 nextCursor를 전달합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 limit 값",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CommonResponse<PostCursorPageResponseDto<PostListResponseDto>>> getPostFeed(
+        @Parameter(description = "필터링할 태그 목록 (콤마로 구분)", example = "실내,전자기기,실외")
+        @RequestParam(required = false) String tags,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)", example = "")
+        @RequestParam String cursor,
+        @Parameter(description = "조회할 게시글 수", example = "10")
+        @RequestParam(defaultValue = "10") int limit) {
+
+        log.info("게시글 목록 커서 조회 요청: tags={}, cursor={}, limit={}", tags, cursor, limit);
+
+        List<String> tagNames = (tags != null && !tags.isBlank()) ? Arrays.asList(tags.split(",")) : null;
+        PostCursorPageResponseDto<PostListResponseDto> page = postService.getPostFeed(tagNames, cursor, limit);
+
+        return ResponseEntity.ok(CommonResponse.success("get_posts_success", page));
+    }
+
     @Operation(
         summary = "게시글 등록",
         description = "새로운 게시글을 등록합니다. 메인 이미지는 필수이며, 상세 이미지는 선택사항입니다."
@@ -282,9 +309,64 @@ public class PostController {
         return ResponseEntity.ok(CommonResponse.success("get_my_posts_success", myPosts));
     }
 
+    /**
+     * 내 보관소 게시글 커서 기반 조회
+     */
+    @Operation(summary = "내 게시글 목록 커서 기반 조회", description = "cursor 파라미터가 있으면 (작성일시, 게시글 ID) 키셋 커서로 내 게시글 목록을 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "내 게시글 목록 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 limit 값"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    @GetMapping(value = "/my-posts", params = "cursor")
+    public ResponseEntity<CommonResponse<PostCursorPageResponseDto<PostResponseDto>>> getMyPostFeed(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        Long userId = SecurityUtil.getCurrentUserId();
+        log.info("내 게시글 커서 조회 요청: userId={}, cursor={}, limit={}", userId, cursor, limit);
+        PostCursorPageResponseDto<PostResponseDto> page = postService.getMyPostFeed(userId, cursor, limit);
+        return ResponseEntity.ok(CommonResponse.success("get_my_posts_success", page));
+    }
+
     
 
 
+    @Operation(summary = "주변 게시글 조회", description = "좌표 반경 내 공개 게시글을 가까운 순으로 조회합니다. 게시글 위치는 소속 동의 좌표를 기준으로 합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "주변 게시글 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 좌표, 반경 또는 limit 값",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/nearby")
+    public ResponseEntity<CommonResponse<List<NearbyPostResponseDto>>> getNearbyPosts(
+            @Parameter(description = "위도", example = "37.5665") @RequestParam double lat,
+            @Parameter(description = "경도", example = "126.9780") @RequestParam double lng,
+            @Parameter(description = "반경 (km, 최대 20)", example = "3") @RequestParam(defaultValue = "3") double radiusKm,
+            @Parameter(description = "조회할 게시글 수", example = "20") @RequestParam(defaultValue = "20") int limit) {
+
+        log.info("주변 게시글 조회 요청: lat={}, lng={}, radiusKm={}, limit={}", lat, lng, radiusKm, limit);
+
+        List<NearbyPostResponseDto> posts = postService.getNearbyPosts(lat, lng, radiusKm, limit);
+
+        return ResponseEntity.ok(CommonResponse.success("get_nearby_posts_success", posts));
+    }
+
+    @Operation(summary = "주변 보관소 조회", description = "좌표 반경 내 보관소를 가까운 순으로 조회합니다.")
+    @GetMapping("/storages/nearby")
+    public ResponseEntity<CommonResponse<List<NearbyStorageResponseDto>>> getNearbyStorages(
+            @Parameter(description = "위도", example = "37.5665") @RequestParam double lat,
+            @Parameter(description = "경도", example = "126.9780") @RequestParam double lng,
+            @Parameter(description = "반경 (km, 최대 20)", example = "3") @RequestParam(defaultValue = "3") double radiusKm,
+            @Parameter(description = "조회할 보관소 수", example = "20") @RequestParam(defaultValue = "20") int limit) {
+
+        log.info("주변 보관소 조회 요청: lat={}, lng={}, radiusKm={}, limit={}", lat, lng, radiusKm, limit);
+
+        List<NearbyStorageResponseDto> storages = storageService.getNearbyStorages(lat, lng, radiusKm, limit);
+
+        return ResponseEntity.ok(CommonResponse.success("get_nearby_storages_success", storages));
+    }
+
     // ✅ 변경된 엔드포인트: /api/posts/storages/location
     @Operation(summary = "위치 기반 보관소 조회", description = "특정 동네의 보관소 목록을 조회합니다.")
     @GetMapping("/storages/location")
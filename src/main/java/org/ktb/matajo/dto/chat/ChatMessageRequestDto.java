@@ -31,6 +31,11 @@ public class ChatMessageRequestDto {
     @Builder.Default
     private MessageType messageType = MessageType.TEXT;
 
+    // 내용 갱신 (XSS 필터링 결과 반영)
+    public void updateContent(String content) {
+        this.content = content;
+    }
+
     // 추가 유효성 검증 메서드
     public boolean isImageTypeWithEmptyContent() {
         return MessageType.IMAGE.equals(this.messageType) &&
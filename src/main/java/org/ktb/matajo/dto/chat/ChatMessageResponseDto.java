@@ -36,4 +36,7 @@ public class ChatMessageResponseDto {
 
     @Schema(description = "발신자 닉네임", example = "사용자1")
     private String senderNickname;
+
+    @Schema(description = "채팅방 내 메시지 순번 (연속 증가, 누락 구간 감지용)", example = "42")
+    private Long seq;
 }
\ No newline at end of file
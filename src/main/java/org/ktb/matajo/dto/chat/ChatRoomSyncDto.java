@@ -0,0 +1,30 @@
+package org.ktb.matajo.dto.chat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Schema(description = "채팅방별 동기화 결과 DTO")
+public class ChatRoomSyncDto {
+
+    @Schema(description = "채팅방 ID", example = "1")
+    private Long roomId;
+
+    @Schema(description = "마지막으로 받은 메시지 이후의 새 메시지 (messageId 오름차순, 처음 보는 채팅방은 최신 메시지)")
+    private List<ChatMessageResponseDto> messages;
+
+    @Schema(description = "응답 크기 제한으로 생략된 메시지가 더 있는지 여부 " +
+            "(true이면 메시지 목록 API로 마지막 messageId 이후를, 처음 보는 채팅방은 첫 messageId 이전을 이어서 조회)", example = "false")
+    private boolean hasMore;
+
+    @Schema(description = "상대방 읽음 워터마크 (이 ID 이하의 내 메시지는 읽음)", example = "118")
+    private Long counterpartLastReadMessageId;
+
+    @Schema(description = "내 읽음 워터마크 (다른 기기에서 읽은 범위 포함)", example = "120")
+    private Long myLastReadMessageId;
+}
@@ -0,0 +1,17 @@
+package org.ktb.matajo.dto.chat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Schema(description = "채팅방 일괄 동기화 요청 DTO")
+public class ChatSyncRequestDto {
+
+    @Schema(description = "채팅방 ID별 마지막으로 받은 메시지 ID (처음 보는 채팅방은 생략)", example = "{\"1\": 120, \"7\": 58}")
+    private Map<Long, Long> lastSeenMessageIds;
+}
@@ -0,0 +1,23 @@
+package org.ktb.matajo.dto.chat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Schema(description = "채팅방 일괄 동기화 응답 DTO")
+public class ChatSyncResponseDto {
+
+    @Schema(description = "참여 중인 채팅방별 새 메시지와 읽음 워터마크")
+    private List<ChatRoomSyncDto> rooms;
+
+    @Schema(description = "요청에 없던 새로 참여한 채팅방 ID 목록", example = "[9]")
+    private List<Long> joinedRoomIds;
+
+    @Schema(description = "요청에 있었지만 더 이상 참여 중이 아닌 채팅방 ID 목록", example = "[3]")
+    private List<Long> leftRoomIds;
+}
@@ -0,0 +1,31 @@
+package org.ktb.matajo.dto.location;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import org.ktb.matajo.dto.storage.StorageResponseDto;
+import org.ktb.matajo.dto.trade.TradeInfoCurrentResponseDto;
+
+import java.util.List;
+
+/** 동네 홈 화면 통합 응답 DTO (동네 게시글, 지역 특가, 최근 거래, 보관소) */
+@Getter
+@Builder
+@Schema(description = "동네 홈 화면 통합 응답 DTO")
+public class LocationHomeResponseDto {
+
+    @Schema(description = "위치 정보 ID", example = "1")
+    private Long locationInfoId;
+
+    @Schema(description = "같은 시군구의 게시글 목록")
+    private List<LocationPostResponseDto> posts;
+
+    @Schema(description = "지역 특가 게시글 (할인율 상위 2개)")
+    private List<LocationDealResponseDto> deals;
+
+    @Schema(description = "최근 거래 내역 (최대 2개)")
+    private List<TradeInfoCurrentResponseDto> recentTrades;
+
+    @Schema(description = "동네 보관소 목록")
+    private List<StorageResponseDto> storages;
+}
@@ -0,0 +1,26 @@
+package org.ktb.matajo.dto.post;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "주변 게시글 응답 DTO")
+public class NearbyPostResponseDto {
+
+    @Schema(description = "게시글 ID", example = "1")
+    private Long postId;
+
+    @Schema(description = "게시글 제목", example = "편리한 보관 공간 제공합니다")
+    private String postTitle;
+
+    @Schema(description = "게시글 주소", example = "강남구 삼성동")
+    private String postAddress;
+
+    @Schema(description = "선호 가격 (원)", example = "30000")
+    private int preferPrice;
+
+    @Schema(description = "검색 좌표로부터의 거리 (km, 게시글 소속 동 기준)", example = "1.24")
+    private double distanceKm;
+}
@@ -0,0 +1,51 @@
+package org.ktb.matajo.dto.post;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.ktb.matajo.global.error.code.ErrorCode;
+import org.ktb.matajo.global.error.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 키셋 커서 (createdAt, id)
+ * 클라이언트에는 Base64(URL-safe) 문자열로 전달되며, 마지막으로 받은 게시글의 위치를 나타냅니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdAt;
+    private final Long postId;
+
+    /**
+     * 커서 문자열 해석 (비어 있으면 첫 페이지를 의미하므로 null 반환)
+     */
+    public static PostCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            return new PostCursor(LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                    Long.parseLong(decoded.substring(delimiterIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
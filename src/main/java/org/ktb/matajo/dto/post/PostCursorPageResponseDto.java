@@ -0,0 +1,22 @@
+package org.ktb.matajo.dto.post;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "커서 기반 게시글 목록 응답 DTO")
+public class PostCursorPageResponseDto<T> {
+
+    @Schema(description = "게시글 목록")
+    private List<T> posts;
+
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지이면 null)", example = "MjAyNS0wMy0xNVQxNDozMDowMF8xMjM")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+}
@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 @Builder
 @Getter
 @Table(indexes = {
-        @Index(name = "idx_chat_message_room_id", columnList = "room_id"),
+        @Index(name = "idx_chat_message_room_id_id", columnList = "room_id, id"),
+        @Index(name = "idx_chat_message_room_id_seq", columnList = "room_id, seq"),
         @Index(name = "idx_chat_message_sender_id", columnList = "sender_id")
 })
 public class ChatMessage {
@@ -25,10 +26,14 @@ public class ChatMessage {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // 채팅방 내 메시지 순번 (1부터 연속 증가, 순번 도입 이전 메시지는 null)
+    private Long seq;
+
     @Convert(converter = MessageTypeConverter.class)
     @Column(nullable = false)
     private MessageType messageType;
 
+    // 실제 읽음 여부는 ChatUser.lastReadMessageId 워터마크로 판단 (저장 시 항상 false)
     @Column(nullable = false, columnDefinition = "TINYINT(1)")
     private boolean readStatus;
 
@@ -45,14 +50,5 @@ public class ChatMessage {
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
-
-    /**
-     * 읽음 상태 업데이트
-     *
-     * @param readStatus 변경할 읽음 상태
-     */
-    public void updateReadStatus(boolean readStatus) {
-        this.readStatus = readStatus;
-    }
 }
 
@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.ktb.matajo.entity.common.BaseEntity;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -35,6 +36,18 @@ public class ChatRoom extends BaseEntity {
             foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT), nullable = false)
     private Post post;
 
+    // 마지막 메시지 정보 (채팅방 목록 조회용 비정규화 컬럼, 메시지 저장 시 갱신)
+    private Long lastMessageId;
+
+    @Column(columnDefinition = "TEXT")
+    private String lastMessageContent;
+
+    private LocalDateTime lastMessageAt;
+
+    // 채팅방 내 마지막 메시지 순번 (메시지 저장 시 1씩 증가)
+    @Column(nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long lastMessageSeq;
+
     @Builder.Default
     @OneToMany(mappedBy = "chatRoom", cascade = CascadeType.ALL)
     private List<ChatMessage> chatMessageList = new ArrayList<>();
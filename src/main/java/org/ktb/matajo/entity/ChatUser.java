@@ -43,6 +43,11 @@ public class ChatUser {
 
     private LocalDateTime leftAt;
 
+    // 읽음 워터마크 - 이 ID 이하의 메시지는 모두 읽은 것으로 간주
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long lastReadMessageId = 0L;
+
     // 채팅방 나가기
     public void leave() {
         this.activeStatus = false;
@@ -0,0 +1,62 @@
+package org.ktb.matajo.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스 이벤트
+ * 비즈니스 데이터와 같은 트랜잭션에서 저장되고, 커밋된 이벤트만 릴레이가 ID 순서대로 읽어 외부로 전파한 뒤 삭제합니다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Getter
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(nullable = false)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private OutboxEventType eventType;
+
+    // 전달 순서 보장 단위 (채팅방 ID)
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    // 전파 실패 횟수
+    @Column(nullable = false)
+    private int attempts;
+
+    // 전파를 맡은 릴레이의 선점 만료 시각 (null이면 선점되지 않음, 만료되면 다른 릴레이가 다시 전파)
+    private LocalDateTime claimedUntil;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public void claim(LocalDateTime claimedUntil) {
+        this.claimedUntil = claimedUntil;
+    }
+
+    public void release() {
+        this.claimedUntil = null;
+    }
+
+    public void recordFailure() {
+        this.attempts++;
+        release();
+    }
+}
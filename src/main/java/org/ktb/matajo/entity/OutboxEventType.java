@@ -0,0 +1,11 @@
+package org.ktb.matajo.entity;
+
+/**
+ * 아웃박스 이벤트 종류
+ */
+public enum OutboxEventType {
+    // 채팅 메시지 저장 - 채팅방 브로드캐스트, 최근 메시지 캐시 추가, FCM 알림
+    CHAT_MESSAGE,
+    // 읽음 워터마크 전진 - 캐시된 읽음 워터마크 갱신, 읽음 상태 및 안 읽은 개수 브로드캐스트
+    READ_STATUS
+}
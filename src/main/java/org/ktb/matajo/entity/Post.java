@@ -22,7 +22,9 @@ import java.util.List;
 //name = 인덱스 이름, columnList = 실제데이터베이스 컬러이름
 @Table(indexes = {
         @Index(name = "idx_post_address_id", columnList = "address_id"),
-        @Index(name = "idx_post_keeper_id", columnList = "keeper_id")
+        @Index(name = "idx_post_keeper_id", columnList = "keeper_id"),
+        @Index(name = "idx_post_keeper_feed", columnList = "keeper_id, deleted_at, created_at, id"),
+        @Index(name = "idx_post_feed", columnList = "deleted_at, hidden_status, created_at, id")
 })
 public class Post extends BaseEntity {
     @Id
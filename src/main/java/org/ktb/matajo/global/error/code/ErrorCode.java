@@ -7,6 +7,7 @@ import org.springframework.http.HttpStatus;
 public enum ErrorCode {
     // 400 BAD REQUEST
     INVALID_OFFSET_OR_LIMIT(HttpStatus.BAD_REQUEST, "invalid_offset_or_limit", "페이지네이션 파라미터가 유효하지 않습니다"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "invalid_cursor", "페이지 커서가 유효하지 않습니다"),
     INVALID_POST_ID(HttpStatus.BAD_REQUEST, "invalid_post_id", "게시글 ID가 유효하지 않습니다"),
     INVALID_POST_TITLE(HttpStatus.BAD_REQUEST, "invalid_post_title", "게시글 제목이 유효하지 않습니다"),
     INVALID_POST_CONTENT(HttpStatus.BAD_REQUEST,  "invalid_post_content", "게시글 내용이 유효하지 않습니다"),
@@ -15,6 +16,7 @@ public enum ErrorCode {
     INVALID_POST_IMAGES(HttpStatus.BAD_REQUEST, "invalid_post_images", "게시글 이미지가 유효하지 않습니다"),
     INVALID_PREFER_PRICE(HttpStatus.BAD_REQUEST, "invalid_prefer_price", "선호 가격이 유효하지 않습니다"),
     INVALID_LOCATION_ID(HttpStatus.BAD_REQUEST, "invalid_location_id", "올바르지 않은 위치 정보입니다"),
+    INVALID_GEO_SEARCH(HttpStatus.BAD_REQUEST, "invalid_geo_search", "위치 검색 조건(좌표, 반경)이 유효하지 않습니다"),
     INVALID_USER_ID(HttpStatus.BAD_REQUEST, "invalid_user_id", "사용자 ID가 유효하지 않습니다"),
     INVALID_TAG_ID(HttpStatus.BAD_REQUEST, "invalid_tag_id", "태그 ID가 유효하지 않습니다"),
     INVALID_CHAT_ROOM_ID(HttpStatus.BAD_REQUEST, "invalid_chat_room_id", "채팅방 ID가 유효하지 않습니다"),
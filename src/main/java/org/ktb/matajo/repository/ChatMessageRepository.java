@@ -1,5 +1,6 @@
 package org.ktb.matajo.repository;
 
+import org.ktb.matajo.dto.chat.ChatMessageResponseDto;
 import org.ktb.matajo.entity.ChatMessage;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,25 +14,96 @@ import java.util.List;
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
     /**
-     * 채팅방의 메시지 목록 조회 (페이지네이션 적용)
+     * 메시지 읽음 여부 - 발신자가 아닌 참여자의 읽음 워터마크(lastReadMessageId)가 메시지 ID 이상이면 읽음
      */
-    List<ChatMessage> findByChatRoomId(Long roomId);
+    String READ_BY_COUNTERPART = "CASE WHEN m.id <= (" +
+            "SELECT COALESCE(MAX(cu.lastReadMessageId), 0) FROM ChatUser cu " +
+            "WHERE cu.chatRoom.id = m.chatRoom.id AND cu.user.id <> u.id) " +
+            "THEN true ELSE false END";
 
     /**
-     * 읽지 않은 메시지 중 특정 사용자가 보내지 않은 메시지만 조회
+     * 채팅방의 최신 메시지 목록 조회 (id 내림차순, 발신자 닉네임 조인)
      */
-    @Query("SELECT m FROM ChatMessage m " +
+    @Query("SELECT new org.ktb.matajo.dto.chat.ChatMessageResponseDto(" +
+            "m.id, m.chatRoom.id, u.id, m.content, m.messageType, " +
+            READ_BY_COUNTERPART + ", m.createdAt, u.nickname, m.seq) " +
+            "FROM ChatMessage m " +
+            "JOIN m.user u " +
             "WHERE m.chatRoom.id = :roomId " +
-            "AND m.user.id != :userId " +
-            "AND m.readStatus = false")
-    List<ChatMessage> findUnreadMessagesForUser(@Param("roomId") Long roomId, @Param("userId") Long userId);
+            "ORDER BY m.id DESC")
+    List<ChatMessageResponseDto> findLatestMessages(@Param("roomId") Long roomId, Pageable pageable);
 
     /**
-     * 채팅방의 읽지 않은 메시지 수 조회
+     * 커서(messageId) 이전 메시지 목록 조회 (id 내림차순, 발신자 닉네임 조인)
+     */
+    @Query("SELECT new org.ktb.matajo.dto.chat.ChatMessageResponseDto(" +
+            "m.id, m.chatRoom.id, u.id, m.content, m.messageType, " +
+            READ_BY_COUNTERPART + ", m.createdAt, u.nickname, m.seq) " +
+            "FROM ChatMessage m " +
+            "JOIN m.user u " +
+            "WHERE m.chatRoom.id = :roomId " +
+            "AND m.id < :beforeMessageId " +
+            "ORDER BY m.id DESC")
+    List<ChatMessageResponseDto> findMessagesBefore(@Param("roomId") Long roomId,
+                                                    @Param("beforeMessageId") Long beforeMessageId,
+                                                    Pageable pageable);
+
+    /**
+     * 커서(messageId) 이후 메시지 목록 조회 (id 오름차순, 발신자 닉네임 조인)
      */
-    @Query("SELECT COUNT(m) FROM ChatMessage m " +
+    @Query("SELECT new org.ktb.matajo.dto.chat.ChatMessageResponseDto(" +
+            "m.id, m.chatRoom.id, u.id, m.content, m.messageType, " +
+            READ_BY_COUNTERPART + ", m.createdAt, u.nickname, m.seq) " +
+            "FROM ChatMessage m " +
+            "JOIN m.user u " +
             "WHERE m.chatRoom.id = :roomId " +
-            "AND m.user.id != :userId " +
-            "AND m.readStatus = false")
+            "AND m.id > :afterMessageId " +
+            "ORDER BY m.id ASC")
+    List<ChatMessageResponseDto> findMessagesAfter(@Param("roomId") Long roomId,
+                                                   @Param("afterMessageId") Long afterMessageId,
+                                                   Pageable pageable);
+
+    /**
+     * 메시지 순번 구간 조회 (seq 오름차순, 재연결 시 누락 구간 재동기화용)
+     */
+    @Query("SELECT new org.ktb.matajo.dto.chat.ChatMessageResponseDto(" +
+            "m.id, m.chatRoom.id, u.id, m.content, m.messageType, " +
+            READ_BY_COUNTERPART + ", m.createdAt, u.nickname, m.seq) " +
+            "FROM ChatMessage m " +
+            "JOIN m.user u " +
+            "WHERE m.chatRoom.id = :roomId " +
+            "AND m.seq BETWEEN :fromSeq AND :toSeq " +
+            "ORDER BY m.seq ASC")
+    List<ChatMessageResponseDto> findMessagesBySeqRange(@Param("roomId") Long roomId,
+                                                        @Param("fromSeq") Long fromSeq,
+                                                        @Param("toSeq") Long toSeq,
+                                                        Pageable pageable);
+
+    /**
+     * 채팅방의 마지막 메시지 ID 조회 ((room_id, id) 인덱스만으로 처리)
+     */
+    @Query("SELECT MAX(m.id) FROM ChatMessage m WHERE m.chatRoom.id = :roomId")
+    Long findLastMessageId(@Param("roomId") Long roomId);
+
+    /**
+     * 채팅방별 마지막 메시지 일괄 조회 (마지막 메시지 컬럼이 비어 있는 기존 채팅방용)
+     */
+    @Query("SELECT m FROM ChatMessage m " +
+            "WHERE m.id IN (" +
+            "SELECT MAX(m2.id) FROM ChatMessage m2 " +
+            "WHERE m2.chatRoom.id IN :roomIds " +
+            "GROUP BY m2.chatRoom.id)")
+    List<ChatMessage> findLastMessagesByRoomIds(@Param("roomIds") List<Long> roomIds);
+
+    /**
+     * 채팅방의 읽지 않은 메시지 수 조회
+     * 사용자의 읽음 워터마크 이후에 상대방이 보낸 메시지만 범위 카운트
+     */
+    @Query("SELECT COUNT(m) FROM ChatMessage m, ChatUser cu " +
+            "WHERE cu.chatRoom.id = :roomId " +
+            "AND cu.user.id = :userId " +
+            "AND m.chatRoom.id = :roomId " +
+            "AND m.id > cu.lastReadMessageId " +
+            "AND m.user.id <> :userId")
     long countUnreadMessages(@Param("roomId") Long roomId, @Param("userId") Long userId);
 }
\ No newline at end of file
@@ -1,13 +1,66 @@
 package org.ktb.matajo.repository;
 
 import org.ktb.matajo.entity.ChatRoom;
+import org.ktb.matajo.repository.projection.ChatRoomInboxProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     // 게시글 ID, 사용자 ID 기준으로 기존 채팅방 조회 - activeStatus 상관없이
     Optional<ChatRoom> findByPostIdAndUserId(Long postId, Long userId);
+
+    // 메시지 순번을 count 만큼 증가 (채팅방 행 잠금으로 같은 채팅방의 메시지 저장이 직렬화되어 순번이 커밋 순서와 일치)
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.lastMessageSeq = r.lastMessageSeq + :count WHERE r.id = :roomId")
+    int incrementMessageSeq(@Param("roomId") Long roomId, @Param("count") long count);
+
+    // 채팅방의 마지막 메시지 순번 조회
+    @Query("SELECT r.lastMessageSeq FROM ChatRoom r WHERE r.id = :roomId")
+    Long findLastMessageSeq(@Param("roomId") Long roomId);
+
+    // 마지막 메시지 정보 갱신 (더 최신 메시지일 때만 - 동시 저장 시 역전 방지)
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.lastMessageId = :messageId, " +
+            "r.lastMessageContent = :content, " +
+            "r.lastMessageAt = :createdAt " +
+            "WHERE r.id = :roomId " +
+            "AND (r.lastMessageId IS NULL OR r.lastMessageId < :messageId)")
+    int updateLastMessage(@Param("roomId") Long roomId,
+                          @Param("messageId") Long messageId,
+                          @Param("content") String content,
+                          @Param("createdAt") LocalDateTime createdAt);
+
+    // 사용자의 활성 채팅방 목록(인박스)을 안 읽은 메시지 수까지 단일 쿼리로 조회
+    @Query("SELECT r.id AS chatRoomId, " +
+            "keeper.id AS keeperId, " +
+            "keeper.nickname AS keeperNickname, " +
+            "client.nickname AS clientNickname, " +
+            "(SELECT MIN(i.imageUrl) FROM Image i " +
+            " WHERE i.post.id = p.id AND i.thumbnailStatus = true) AS postMainImage, " +
+            "a.bname AS postAddress, " +
+            "r.lastMessageId AS lastMessageId, " +
+            "r.lastMessageContent AS lastMessageContent, " +
+            "r.lastMessageAt AS lastMessageAt, " +
+            "(SELECT COUNT(m) FROM ChatMessage m " +
+            " WHERE m.chatRoom.id = r.id " +
+            " AND m.id > cu.lastReadMessageId " +
+            " AND m.user.id <> :userId) AS unreadCount " +
+            "FROM ChatUser cu " +
+            "JOIN cu.chatRoom r " +
+            "JOIN r.post p " +
+            "JOIN p.user keeper " +
+            "JOIN r.user client " +
+            "LEFT JOIN p.address a " +
+            "WHERE cu.user.id = :userId " +
+            "AND cu.activeStatus = true " +
+            "ORDER BY r.lastMessageId DESC")
+    List<ChatRoomInboxProjection> findInboxByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
@@ -2,7 +2,11 @@ package org.ktb.matajo.repository;
 
 import org.ktb.matajo.entity.ChatRoom;
 import org.ktb.matajo.entity.ChatUser;
+import org.ktb.matajo.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,4 +22,49 @@ public interface ChatUserRepository extends JpaRepository<ChatUser, Long> {
 
     // 특정 사용자가 특정 채팅방에 활성 상태로 참여 중인지 확인
     boolean existsByUserIdAndChatRoomIdAndActiveStatusIsTrue(Long userId, Long roomId);
+
+    // 채팅방에서 특정 사용자를 제외한 상대방 사용자 조회 (알림 수신자 확인용)
+    @Query("SELECT cu.user FROM ChatUser cu " +
+            "WHERE cu.chatRoom.id = :roomId " +
+            "AND cu.user.id <> :userId")
+    List<User> findCounterpartUsers(@Param("roomId") Long roomId, @Param("userId") Long userId);
+
+    // 사용자의 활성 채팅방 동기화 상태 일괄 조회 - (채팅방 ID, 마지막 메시지 ID, 내 읽음 워터마크)
+    @Query("SELECT r.id, r.lastMessageId, cu.lastReadMessageId FROM ChatUser cu " +
+            "JOIN cu.chatRoom r " +
+            "WHERE cu.user.id = :userId " +
+            "AND cu.activeStatus = true")
+    List<Object[]> findActiveRoomSyncStates(@Param("userId") Long userId);
+
+    // 채팅방별 상대방 읽음 워터마크 일괄 조회 - (채팅방 ID, 워터마크)
+    @Query("SELECT cu.chatRoom.id, MAX(cu.lastReadMessageId) FROM ChatUser cu " +
+            "WHERE cu.chatRoom.id IN :roomIds " +
+            "AND cu.user.id <> :userId " +
+            "GROUP BY cu.chatRoom.id")
+    List<Object[]> findCounterpartReadWatermarks(@Param("roomIds") List<Long> roomIds, @Param("userId") Long userId);
+
+    // 채팅방 참여자별 읽음 워터마크 조회 - (사용자 ID, 워터마크)
+    @Query("SELECT cu.user.id, cu.lastReadMessageId FROM ChatUser cu " +
+            "WHERE cu.chatRoom.id = :roomId")
+    List<Object[]> findReadWatermarks(@Param("roomId") Long roomId);
+
+    // 읽음 워터마크 전진 (단일 조건부 UPDATE - 워터마크는 뒤로 가지 않음)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ChatUser cu SET cu.lastReadMessageId = :messageId " +
+            "WHERE cu.chatRoom.id = :roomId " +
+            "AND cu.user.id = :userId " +
+            "AND cu.lastReadMessageId < :messageId")
+    int advanceReadWatermark(@Param("roomId") Long roomId,
+                             @Param("userId") Long userId,
+                             @Param("messageId") Long messageId);
+
+    // 기존 메시지별 읽음 플래그로 워터마크 보정 (상대방이 보낸 읽은 메시지 중 가장 큰 ID까지 전진, 워터마크 도입 이전 데이터 이관용)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ChatUser cu SET cu.lastReadMessageId = " +
+            "(SELECT MAX(m.id) FROM ChatMessage m " +
+            "WHERE m.chatRoom = cu.chatRoom AND m.user <> cu.user AND m.readStatus = true) " +
+            "WHERE EXISTS (SELECT 1 FROM ChatMessage m2 " +
+            "WHERE m2.chatRoom = cu.chatRoom AND m2.user <> cu.user AND m2.readStatus = true " +
+            "AND m2.id > cu.lastReadMessageId)")
+    int backfillReadWatermarksFromReadFlags();
 }
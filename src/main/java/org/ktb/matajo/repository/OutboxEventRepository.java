@@ -0,0 +1,44 @@
+package org.ktb.matajo.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.ktb.matajo.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 선점되지 않았거나 선점이 만료된 미전파 이벤트를 ID 순서대로 잠금 조회 (선점 기록 동안 다른 릴레이가 같은 이벤트를 선점하지 않도록 행 잠금)
+     * 다른 서버가 잠근 행은 기다리지 않고 건너뜀 (lock.timeout = -2 → FOR UPDATE SKIP LOCKED)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e " +
+            "WHERE e.claimedUntil IS NULL OR e.claimedUntil < :now " +
+            "ORDER BY e.id")
+    List<OutboxEvent> findPendingForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 잠금 조회 결과에 포함되지 않은(다른 서버가 잠갔거나 선점한) 이벤트 중 집계 ID별 가장 이른 ID 조회 - (집계 ID, 이벤트 ID)
+     * 잠금 없는 일반 조회이므로 다른 서버의 잠금을 기다리지 않습니다.
+     */
+    @Query("SELECT e.aggregateId, MIN(e.id) FROM OutboxEvent e " +
+            "WHERE e.aggregateId IN :aggregateIds " +
+            "AND e.id <= :maxId " +
+            "AND e.id NOT IN :claimedIds " +
+            "GROUP BY e.aggregateId")
+    List<Object[]> findEarliestUnclaimedIds(@Param("aggregateIds") Collection<Long> aggregateIds,
+                                            @Param("maxId") Long maxId,
+                                            @Param("claimedIds") Collection<Long> claimedIds);
+}
@@ -2,22 +2,84 @@ package org.ktb.matajo.repository;
 
 import io.lettuce.core.dynamic.annotation.Param;
 import org.ktb.matajo.entity.Post;
+import org.ktb.matajo.repository.projection.PostCardProjection;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-    @Query("SELECT p " +
+    /**
+     * 게시글 상세 조회 (작성자·주소 함께 조회)
+     */
+    @Query("SELECT p FROM Post p " +
+           "JOIN FETCH p.user " +
+           "LEFT JOIN FETCH p.address " +
+           "WHERE p.id = :postId")
+    Optional<Post> findDetailById(@Param("postId") Long postId);
+
+    /**
+     * 활성 게시글 목록 카드 조회 (최신순)
+     */
+    @Query("SELECT p.id AS postId, p.title AS postTitle, p.preferPrice AS preferPrice, " +
+           "a.sigungu AS sigungu, a.bname2 AS bname2, p.createdAt AS createdAt " +
            "FROM Post p " +
+           "JOIN p.address a " +
            "WHERE p.deletedAt IS NULL " +
            "AND p.hiddenStatus = false " +
-           "ORDER BY p.createdAt DESC")
-    List<Post> findAllActivePostsOrderByCreatedAtDesc(Pageable pageable);
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostCardProjection> findActivePostCards(Pageable pageable);
+
+    /**
+     * 커서(createdAt, id) 이후의 활성 게시글 목록 카드 조회 (최신순 키셋 페이지네이션)
+     * (deleted_at, hidden_status, created_at, id) 인덱스 범위 조회로 페이지 깊이와 무관하게 limit 만큼만 읽음
+     */
+    @Query("SELECT p.id AS postId, p.title AS postTitle, p.preferPrice AS preferPrice, " +
+           "a.sigungu AS sigungu, a.bname2 AS bname2, p.createdAt AS createdAt " +
+           "FROM Post p " +
+           "JOIN p.address a " +
+           "WHERE p.deletedAt IS NULL " +
+           "AND p.hiddenStatus = false " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :postId)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostCardProjection> findActivePostCardsBefore(@Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("postId") Long postId,
+                                                       Pageable pageable);
+
+    /**
+     * 게시글 ID 목록으로 활성 게시글 카드 조회
+     */
+    @Query("SELECT p.id AS postId, p.title AS postTitle, p.preferPrice AS preferPrice, " +
+           "a.sigungu AS sigungu, a.bname2 AS bname2, p.createdAt AS createdAt " +
+           "FROM Post p " +
+           "JOIN p.address a " +
+           "WHERE p.id IN :postIds " +
+           "AND p.deletedAt IS NULL " +
+           "AND p.hiddenStatus = false")
+    List<PostCardProjection> findActivePostCardsByIds(@Param("postIds") List<Long> postIds);
+
+    /**
+     * 게시글 ID 목록의 이미지 일괄 조회 - (게시글 ID, 이미지 URL, 썸네일 여부)
+     */
+    @Query("SELECT i.post.id, i.imageUrl, i.thumbnailStatus FROM Image i " +
+           "WHERE i.post.id IN :postIds " +
+           "ORDER BY i.id")
+    List<Object[]> findImagesByPostIds(@Param("postIds") List<Long> postIds);
+
+    /**
+     * 게시글 ID 목록의 태그 이름 일괄 조회 - (게시글 ID, 태그 이름)
+     */
+    @Query("SELECT pt.post.id, t.tagName FROM PostTag pt " +
+           "JOIN pt.tag t " +
+           "WHERE pt.post.id IN :postIds " +
+           "ORDER BY pt.id")
+    List<Object[]> findTagNamesByPostIds(@Param("postIds") List<Long> postIds);
 
     // location_info_id로 게시글 직접 조회 (단일 쿼리로 처리)
     @Query("SELECT p FROM Post p " +
@@ -38,18 +100,17 @@ public interface PostRepository extends JpaRepository<Post, Long> {
         "ORDER BY p.createdAt DESC")
     List<Post> findActivePostsByLocationInfoIds(@Param("locationInfoIds") List<Long> locationInfoIds);
 
-    //할인율 상위 2개 조회
-    @Query("SELECT p FROM Post p " +
+    /**
+     * 할인 순위표 구축용 할인 중인 활성 게시글 조회 - (게시글 ID, 동 ID, 제목, 할인율, 썸네일 URL)
+     */
+    @Query("SELECT p.id, a.locationInfo.id, p.title, p.discountRate, i.imageUrl FROM Post p " +
            "JOIN p.address a " +
-           "WHERE a.locationInfo.id = :locationInfoId " +
-           "AND p.deletedAt IS NULL " +
+           "LEFT JOIN Image i ON i.post = p AND i.thumbnailStatus = true " +
+           "WHERE p.deletedAt IS NULL " +
            "AND p.hiddenStatus = false " +
            "AND p.discountRate > 0 " +
-           "ORDER BY p.discountRate DESC " +
-           "LIMIT 2")
-    List<Post> findTopDiscountedPostsByLocationInfoId(
-        @Param("locationInfoId") Long locationInfoId
-    );
+           "ORDER BY i.id")
+    List<Object[]> findActiveDiscountedPostEntries();
 
     // ✅ [추가] 유저 ID로 게시글 조회 (페이지네이션 포함)
     @Query("SELECT p " +
@@ -57,25 +118,44 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             "JOIN p.address a " +
             "WHERE p.user.id = :userId " +
             "AND p.deletedAt IS NULL " +
-            "ORDER BY p.createdAt DESC")
+            "ORDER BY p.createdAt DESC, p.id DESC")
     List<Post> findByUserId(@Param("userId") Long userId, Pageable pageable);
 
     /**
-     * 태그 ID 리스트로 게시글 ID 찾기 (카테고리 고려)
+     * 커서(createdAt, id) 이후의 내 게시글 조회 (최신순 키셋 페이지네이션)
      */
-    @Query("SELECT DISTINCT p.id FROM Post p " +
-           "JOIN p.postTagList pt " +
-           "JOIN pt.tag t " +
-           "WHERE t.id IN :tagIds")
-    List<Long> findPostIdsByTagIds(@Param("tagIds") List<Long> tagIds);
-    
+    @Query("SELECT p " +
+            "FROM Post p " +
+            "JOIN FETCH p.address a " +
+            "WHERE p.user.id = :userId " +
+            "AND p.deletedAt IS NULL " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :postId)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findByUserIdBefore(@Param("userId") Long userId,
+                                  @Param("createdAt") LocalDateTime createdAt,
+                                  @Param("postId") Long postId,
+                                  Pageable pageable);
+
     /**
-     * 게시글 ID 리스트로 게시글 조회
+     * 위치 검색 색인 구축용 활성 게시글 (게시글 ID, 동 ID) 쌍 조회
      */
-    @Query("SELECT p FROM Post p " +
-           "WHERE p.id IN :postIds " +
-           "AND p.deletedAt IS NULL " +
-           "AND p.hiddenStatus = false " +
-           "ORDER BY p.createdAt DESC")
-    List<Post> findByPostIds(@Param("postIds") List<Long> postIds, Pageable pageable);
+    @Query("SELECT p.id, a.locationInfo.id FROM Post p " +
+           "JOIN p.address a " +
+           "WHERE p.deletedAt IS NULL " +
+           "AND p.hiddenStatus = false")
+    List<Object[]> findActivePostLocationPairs();
+
+    /**
+     * 태그 색인 구축용 (게시글 ID, 태그 ID) 쌍 전체 조회
+     */
+    @Query("SELECT pt.post.id, pt.tag.id FROM PostTag pt")
+    List<Object[]> findAllPostTagIdPairs();
+
+    /**
+     * 활성(삭제·숨김 아님) 게시글 ID 전체 조회
+     */
+    @Query("SELECT p.id FROM Post p " +
+           "WHERE p.deletedAt IS NULL " +
+           "AND p.hiddenStatus = false")
+    List<Long> findActivePostIds();
 }
@@ -2,9 +2,14 @@ package org.ktb.matajo.repository;
 
 import org.ktb.matajo.entity.Storage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface StorageRepository extends JpaRepository<Storage, Long> {
     List<Storage> findByLocationInfoId(Long locationInfoId);
+
+    // 위치 검색 색인 구축용 (ID, 위도, 경도) 조회 - x는 경도, y는 위도
+    @Query("SELECT s.id, s.y, s.x FROM Storage s WHERE s.x IS NOT NULL AND s.y IS NOT NULL")
+    List<Object[]> findAllCoordinates();
 }
@@ -0,0 +1,32 @@
+package org.ktb.matajo.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 목록(인박스) 조회용 프로젝션
+ * 채팅방, 게시글, 참여자, 썸네일, 주소, 마지막 메시지, 안 읽은 메시지 수를 한 번의 쿼리로 조회합니다.
+ */
+public interface ChatRoomInboxProjection {
+
+    Long getChatRoomId();
+
+    // 보관인(게시글 작성자) 정보
+    Long getKeeperId();
+
+    String getKeeperNickname();
+
+    // 의뢰인(채팅방 생성자) 정보
+    String getClientNickname();
+
+    String getPostMainImage();
+
+    String getPostAddress();
+
+    Long getLastMessageId();
+
+    String getLastMessageContent();
+
+    LocalDateTime getLastMessageAt();
+
+    Long getUnreadCount();
+}
@@ -0,0 +1,22 @@
+package org.ktb.matajo.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 카드 조회용 프로젝션
+ * 카드에 필요한 게시글·주소 컬럼만 조회하며, 썸네일과 태그는 게시글 ID 기준으로 따로 일괄 조회합니다.
+ */
+public interface PostCardProjection {
+
+    Long getPostId();
+
+    String getPostTitle();
+
+    int getPreferPrice();
+
+    String getSigungu();
+
+    String getBname2();
+
+    LocalDateTime getCreatedAt();
+}
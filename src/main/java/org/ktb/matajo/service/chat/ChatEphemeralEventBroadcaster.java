@@ -0,0 +1,204 @@
+package org.ktb.matajo.service.chat;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방 휘발성 이벤트(입력 중, 접속 상태) 전파기
+ * 채팅방별 상태를 메모리에만 두고 변경 여부만 표시한 뒤, 전용 스레드가 주기마다 변경된 채팅방의 최종 상태를 한 번씩 브로드캐스트합니다.
+ * 같은 주기 안에 들어온 신호는 하나로 병합되므로 키 입력마다 메시지가 나가지 않으며, DB 저장·아웃박스·FCM 알림을 거치지 않습니다.
+ * 서버가 재시작되면 상태는 사라지며, 입력 중 표시는 만료 시간이 지나면 자동으로 해제됩니다.
+ */
+@Slf4j
+@Component
+public class ChatEphemeralEventBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatSessionService chatSessionService;
+    private final long typingTtlMs;
+
+    // 채팅방 ID -> (입력 중인 사용자 ID -> 입력 중 표시 만료 시각)
+    private final Map<Long, Map<Long, Long>> typingByRoom = new ConcurrentHashMap<>();
+    // 다음 주기에 입력 중 상태를 보낼 채팅방
+    private final Set<Long> dirtyTypingRooms = ConcurrentHashMap.newKeySet();
+    // 다음 주기에 접속 상태를 보낼 채팅방
+    private final Set<Long> dirtyPresenceRooms = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService flusher;
+
+    private final Counter receivedCounter;
+    private final Counter broadcastCounter;
+
+    public ChatEphemeralEventBroadcaster(SimpMessagingTemplate messagingTemplate,
+                                         ChatSessionService chatSessionService,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${chat.ephemeral.flush-interval-ms:200}") long flushIntervalMs,
+                                         @Value("${chat.ephemeral.typing-ttl-ms:5000}") long typingTtlMs) {
+        this.messagingTemplate = messagingTemplate;
+        this.chatSessionService = chatSessionService;
+        this.typingTtlMs = typingTtlMs;
+
+        this.receivedCounter = meterRegistry.counter("chat.ephemeral.received");
+        this.broadcastCounter = meterRegistry.counter("chat.ephemeral.broadcast");
+
+        // 다른 @Scheduled 작업(인덱스 재구축 등)에 밀리지 않도록 전용 스레드 사용
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-ephemeral-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        flusher.shutdownNow();
+    }
+
+    /**
+     * 입력 중 상태 변경 (입력 중이면 만료 시각 연장, 아니면 즉시 해제)
+     *
+     * @param roomId 채팅방 ID
+     * @param userId 사용자 ID
+     * @param typing 입력 중 여부
+     */
+    public void typing(Long roomId, Long userId, boolean typing) {
+        if (roomId == null || userId == null) {
+            return;
+        }
+        receivedCounter.increment();
+
+        if (typing) {
+            long expiresAt = System.currentTimeMillis() + typingTtlMs;
+            boolean[] started = new boolean[1];
+            // 빈 채팅방 항목 정리(flushTyping)와 경합하지 않도록 채팅방 항목 생성과 기록을 한 번의 compute로 처리
+            typingByRoom.compute(roomId, (id, typingUsers) -> {
+                Map<Long, Long> users = typingUsers != null ? typingUsers : new ConcurrentHashMap<>();
+                started[0] = users.put(userId, expiresAt) == null;
+                return users;
+            });
+            // 이미 입력 중으로 알려진 사용자의 연장 신호는 브로드캐스트할 필요 없음
+            if (started[0]) {
+                dirtyTypingRooms.add(roomId);
+            }
+        } else {
+            clearTyping(roomId, userId);
+        }
+    }
+
+    /**
+     * 채팅방 접속 상태 변경 알림 (입장·퇴장 시 호출, 퇴장한 사용자의 입력 중 표시도 해제)
+     *
+     * @param roomId 채팅방 ID
+     * @param userId 입장 또는 퇴장한 사용자 ID
+     * @param left 퇴장 여부
+     */
+    public void presenceChanged(Long roomId, Long userId, boolean left) {
+        if (roomId == null) {
+            return;
+        }
+        receivedCounter.increment();
+
+        if (left && userId != null) {
+            clearTyping(roomId, userId);
+        }
+        dirtyPresenceRooms.add(roomId);
+    }
+
+    private void clearTyping(Long roomId, Long userId) {
+        Map<Long, Long> typingUsers = typingByRoom.get(roomId);
+        if (typingUsers != null && typingUsers.remove(userId) != null) {
+            dirtyTypingRooms.add(roomId);
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            expireTyping();
+            flushTyping();
+            flushPresence();
+        } catch (Exception e) {
+            log.warn("휘발성 채팅 이벤트 전파 중 오류: {}", e.getMessage());
+        }
+    }
+
+    // 만료 시각이 지난 입력 중 표시 해제
+    private void expireTyping() {
+        long now = System.currentTimeMillis();
+        typingByRoom.forEach((roomId, typingUsers) -> {
+            if (typingUsers.values().removeIf(expiresAt -> expiresAt <= now)) {
+                dirtyTypingRooms.add(roomId);
+            }
+        });
+    }
+
+    private void flushTyping() {
+        for (Long roomId : drain(dirtyTypingRooms)) {
+            Map<Long, Long> typingUsers = typingByRoom.get(roomId);
+            List<Long> typingUserIds = typingUsers != null ? new ArrayList<>(typingUsers.keySet()) : List.of();
+            if (typingUserIds.isEmpty()) {
+                // 빈 채팅방 항목 정리 (그 사이 다시 입력 중이 된 경우는 남김)
+                typingByRoom.computeIfPresent(roomId, (id, users) -> users.isEmpty() ? null : users);
+            }
+
+            Map<String, Object> typingUpdate = new HashMap<>();
+            typingUpdate.put("type", "TYPING");
+            typingUpdate.put("roomId", roomId);
+            typingUpdate.put("typingUserIds", typingUserIds);
+
+            send("/topic/chat/" + roomId + "/typing", typingUpdate);
+        }
+    }
+
+    private void flushPresence() {
+        for (Long roomId : drain(dirtyPresenceRooms)) {
+            Set<Long> activeUserIds;
+            try {
+                activeUserIds = chatSessionService.getActiveUsersInRoom(roomId);
+            } catch (Exception e) {
+                // 접속 상태 저장소(Redis) 오류 시 이 채팅방만 다음 주기에 다시 시도
+                dirtyPresenceRooms.add(roomId);
+                log.debug("접속 상태 조회 실패로 다음 주기에 재시도: roomId={}, error={}", roomId, e.getMessage());
+                continue;
+            }
+
+            Map<String, Object> presenceUpdate = new HashMap<>();
+            presenceUpdate.put("type", "PRESENCE");
+            presenceUpdate.put("roomId", roomId);
+            presenceUpdate.put("activeUserIds", activeUserIds);
+
+            send("/topic/chat/" + roomId + "/presence", presenceUpdate);
+        }
+    }
+
+    // 표시된 채팅방을 꺼내고 집합에서 제거 (꺼낸 뒤 다시 표시된 채팅방은 다음 주기에 전송)
+    private List<Long> drain(Set<Long> dirtyRooms) {
+        List<Long> roomIds = new ArrayList<>(dirtyRooms);
+        roomIds.forEach(dirtyRooms::remove);
+        return roomIds;
+    }
+
+    private void send(String destination, Map<String, Object> payload) {
+        try {
+            messagingTemplate.convertAndSend(destination, payload);
+            broadcastCounter.increment();
+        } catch (Exception e) {
+            log.debug("휘발성 채팅 이벤트 전송 실패: destination={}, error={}", destination, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,392 @@
+package org.ktb.matajo.service.chat;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.ktb.matajo.dto.chat.ChatMessageRequestDto;
+import org.ktb.matajo.dto.chat.ChatMessageResponseDto;
+import org.ktb.matajo.entity.ChatRoom;
+import org.ktb.matajo.entity.OutboxEventType;
+import org.ktb.matajo.entity.User;
+import org.ktb.matajo.global.error.code.ErrorCode;
+import org.ktb.matajo.global.error.exception.BusinessException;
+import org.ktb.matajo.repository.ChatRoomRepository;
+import org.ktb.matajo.repository.UserRepository;
+import org.ktb.matajo.service.outbox.OutboxEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 메시지 그룹 커밋 (선택 기능, chat.group-commit.enabled)
+ * STOMP 메시지 프레임을 채팅방 ID 기준 샤드별 고정 크기 큐에 적재하고, 샤드 워커가 짧게 모은 메시지를
+ * 한 트랜잭션에서 다중 행 INSERT 한 번으로 저장합니다. 요청마다 발생하던 커밋 대기를 배치 단위로 나눠 갖습니다.
+ * 같은 채팅방은 항상 같은 샤드로 들어가므로 채팅방 내 저장 순서가 유지되며,
+ * 브로드캐스트·캐시·알림은 기존과 같이 아웃박스에 기록되어 배치 커밋 후 전파됩니다.
+ * 비활성 상태이면 submit이 false를 반환하고 호출 측이 기존 동기 저장 경로를 사용합니다.
+ * 활성 상태에서는 큐에 남은 같은 채팅방 메시지보다 먼저 커밋되어 순서가 뒤바뀌지 않도록 동기 저장으로 우회하지 않고,
+ * 큐가 가득 차면 잠시 기다린 뒤에도 자리가 없으면 요청을 거절합니다.
+ */
+@Slf4j
+@Component
+public class ChatMessageGroupCommitter {
+
+    private static final String INSERT_PREFIX = "INSERT INTO chat_message " +
+            "(room_id, sender_id, content, message_type, read_status, created_at, seq) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, ?, ?)";
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final UserRepository userRepository;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final long offerTimeoutMillis;
+    private final List<BlockingQueue<PendingMessage>> shards;
+    private final ExecutorService workers;
+
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter rejectedCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running = true;
+
+    public ChatMessageGroupCommitter(ChatRoomRepository chatRoomRepository,
+                                     UserRepository userRepository,
+                                     OutboxEventPublisher outboxEventPublisher,
+                                     SimpMessagingTemplate messagingTemplate,
+                                     JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${chat.group-commit.enabled:false}") boolean enabled,
+                                     @Value("${chat.group-commit.shards:4}") int shardCount,
+                                     @Value("${chat.group-commit.queue-capacity:4096}") int queueCapacity,
+                                     @Value("${chat.group-commit.batch-size:100}") int batchSize,
+                                     @Value("${chat.group-commit.linger-ms:5}") long lingerMillis,
+                                     @Value("${chat.group-commit.offer-timeout-ms:200}") long offerTimeoutMillis) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.userRepository = userRepository;
+        this.outboxEventPublisher = outboxEventPublisher;
+        this.messagingTemplate = messagingTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+
+        this.shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayBlockingQueue<>(queueCapacity));
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(shardCount, runnable -> {
+            Thread thread = new Thread(runnable, "chat-group-commit-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.flushTimer = Timer.builder("chat.group.commit.flush")
+                .description("채팅 메시지 그룹 커밋 1회 소요 시간")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("chat.group.commit.batch.size")
+                .description("그룹 커밋 1회당 저장한 메시지 수")
+                .register(meterRegistry);
+        this.rejectedCounter = meterRegistry.counter("chat.group.commit.rejected");
+        this.retriedCounter = meterRegistry.counter("chat.group.commit.retried");
+        this.failedCounter = meterRegistry.counter("chat.group.commit.failed");
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        for (BlockingQueue<PendingMessage> shard : shards) {
+            workers.submit(() -> runWorker(shard));
+        }
+        log.info("채팅 메시지 그룹 커밋 시작: shards={}, batchSize={}, lingerMs={}", shards.size(), batchSize, lingerMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        workers.shutdownNow();
+        try {
+            if (!workers.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("그룹 커밋 워커가 제시간에 종료되지 않았습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 종료 시점에 남은 메시지는 호출 스레드에서 저장
+        for (BlockingQueue<PendingMessage> shard : shards) {
+            List<PendingMessage> remaining = new ArrayList<>();
+            shard.drainTo(remaining);
+            for (int from = 0; from < remaining.size(); from += batchSize) {
+                flush(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+            }
+        }
+    }
+
+    /**
+     * 메시지 적재 (큐가 가득 차면 offer-timeout-ms 동안만 대기)
+     *
+     * @return 그룹 커밋 처리 여부 (비활성 상태이면 false - 호출 측에서 동기 저장)
+     * @throws BusinessException 종료 중이거나 대기 후에도 큐가 가득 찬 경우 (TOO_MANY_REQUESTS)
+     */
+    public boolean submit(Long roomId, ChatMessageRequestDto messageDto) {
+        if (!enabled) {
+            return false;
+        }
+
+        // 종료 중에는 큐에 남은 메시지보다 먼저 저장될 수 있으므로 동기 저장으로 넘기지 않고 거절
+        if (!running) {
+            rejectedCounter.increment();
+            log.warn("그룹 커밋 종료 중이므로 메시지를 거절합니다: roomId={}", roomId);
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+
+        if (roomId == null || roomId <= 0) {
+            log.error("유효하지 않은 roomId 값입니다: {}", roomId);
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        if (messageDto.isImageTypeWithEmptyContent()) {
+            log.error("이미지 타입 메시지의 내용이 비어있습니다");
+            throw new BusinessException(ErrorCode.INVALID_IMAGE_CONTENT);
+        }
+
+        BlockingQueue<PendingMessage> shard = shards.get(Math.floorMod(roomId, shards.size()));
+        try {
+            if (shard.offer(new PendingMessage(roomId, messageDto), offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 큐를 우회해 동기 저장하면 대기 중인 같은 채팅방 메시지보다 먼저 커밋·순번 발급되므로 거절
+        rejectedCounter.increment();
+        log.warn("그룹 커밋 큐가 가득 차 메시지를 거절합니다: roomId={}", roomId);
+        throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+    }
+
+    private void runWorker(BlockingQueue<PendingMessage> shard) {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(shard.take());
+                drainWithinLinger(shard, batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                // 종료 중 이미 꺼낸 메시지는 유실되지 않도록 바로 저장
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+                Thread.currentThread().interrupt();
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 첫 메시지 이후 linger 시간 동안 도착한 메시지를 배치 크기까지 모음
+    private void drainWithinLinger(BlockingQueue<PendingMessage> shard, List<PendingMessage> batch)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+
+            PendingMessage next = shard.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingMessage> batch) {
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> persist(batch)));
+            batchSizeSummary.record(batch.size());
+        } catch (Exception e) {
+            if (batch.size() == 1) {
+                failedCounter.increment();
+                log.error("채팅 메시지 저장 실패: roomId={}, error={}", batch.get(0).roomId(), e.getMessage(), e);
+                sendError(batch.get(0).messageDto().getSenderId());
+                return;
+            }
+
+            // 한 행의 오류로 같은 배치의 다른 메시지까지 잃지 않도록 적재 순서대로 한 건씩 다시 저장
+            log.warn("채팅 메시지 그룹 커밋 실패, 한 건씩 재시도합니다: count={}, error={}", batch.size(), e.getMessage());
+            retriedCounter.increment(batch.size());
+            for (PendingMessage pending : batch) {
+                flush(List.of(pending));
+            }
+        }
+    }
+
+    // 하나의 트랜잭션에서 채팅방·발신자 일괄 조회, 순번 발급, 다중 행 INSERT, 마지막 메시지 갱신, 아웃박스 기록
+    private void persist(List<PendingMessage> batch) {
+        Set<Long> roomIds = chatRoomRepository.findAllById(
+                        batch.stream().map(PendingMessage::roomId).distinct().collect(Collectors.toList()))
+                .stream().map(ChatRoom::getId).collect(Collectors.toSet());
+        Map<Long, User> senders = userRepository.findAllById(
+                        batch.stream().map(pending -> pending.messageDto().getSenderId()).distinct()
+                                .collect(Collectors.toList()))
+                .stream().collect(Collectors.toMap(User::getId, Function.identity()));
+
+        // 채팅방 ID 순으로 묶어 행 잠금 순서를 고정 (채팅방 내 순서는 적재 순서 유지)
+        Map<Long, List<PendingMessage>> byRoom = new TreeMap<>();
+        for (PendingMessage pending : batch) {
+            if (!roomIds.contains(pending.roomId()) || !senders.containsKey(pending.messageDto().getSenderId())) {
+                log.error("채팅방 또는 발신자를 찾을 수 없어 메시지를 저장하지 않습니다: roomId={}, senderId={}",
+                        pending.roomId(), pending.messageDto().getSenderId());
+                sendError(pending.messageDto().getSenderId());
+                continue;
+            }
+            byRoom.computeIfAbsent(pending.roomId(), id -> new ArrayList<>()).add(pending);
+        }
+        if (byRoom.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime createdAt = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        List<PendingMessage> ordered = new ArrayList<>(batch.size());
+        List<Long> seqs = new ArrayList<>(batch.size());
+
+        for (Map.Entry<Long, List<PendingMessage>> entry : byRoom.entrySet()) {
+            Long roomId = entry.getKey();
+            List<PendingMessage> roomMessages = entry.getValue();
+
+            // 채팅방 순번을 메시지 수만큼 한 번에 발급
+            chatRoomRepository.incrementMessageSeq(roomId, roomMessages.size());
+            long lastSeq = chatRoomRepository.findLastMessageSeq(roomId);
+            long seq = lastSeq - roomMessages.size() + 1;
+
+            for (PendingMessage pending : roomMessages) {
+                ordered.add(pending);
+                seqs.add(seq++);
+            }
+        }
+
+        List<Long> messageIds = insertMessages(ordered, seqs, createdAt);
+
+        List<ChatMessageResponseDto> saved = new ArrayList<>(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            PendingMessage pending = ordered.get(i);
+            User sender = senders.get(pending.messageDto().getSenderId());
+            saved.add(ChatMessageResponseDto.builder()
+                    .messageId(messageIds.get(i))
+                    .roomId(pending.roomId())
+                    .senderId(sender.getId())
+                    .senderNickname(sender.getNickname())
+                    .content(pending.messageDto().getContent())
+                    .messageType(pending.messageDto().getMessageType())
+                    .readStatus(false)
+                    .createdAt(createdAt)
+                    .seq(seqs.get(i))
+                    .build());
+        }
+
+        // 채팅방별 마지막 메시지 정보 갱신
+        Map<Long, ChatMessageResponseDto> lastByRoom = new TreeMap<>();
+        for (ChatMessageResponseDto message : saved) {
+            lastByRoom.put(message.getRoomId(), message);
+        }
+        lastByRoom.forEach((roomId, last) -> chatRoomRepository.updateLastMessage(
+                roomId, last.getMessageId(), last.getContent(), last.getCreatedAt()));
+
+        // 브로드캐스트·캐시·알림은 배치 커밋 후 아웃박스 릴레이가 전파
+        for (ChatMessageResponseDto message : saved) {
+            outboxEventPublisher.publish(OutboxEventType.CHAT_MESSAGE, message.getRoomId(), message);
+        }
+
+        log.debug("채팅 메시지 그룹 커밋: count={}, rooms={}", saved.size(), byRoom.size());
+    }
+
+    // 다중 행 INSERT 한 번으로 저장하고 생성된 메시지 ID를 행 순서대로 반환 (단순 다중 행 INSERT의 자동 증가 값은 연속)
+    private List<Long> insertMessages(List<PendingMessage> messages, List<Long> seqs, LocalDateTime createdAt) {
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(messages.size(), INSERT_ROW));
+        Timestamp createdAtTimestamp = Timestamp.valueOf(createdAt);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            int index = 1;
+            for (int i = 0; i < messages.size(); i++) {
+                PendingMessage pending = messages.get(i);
+                statement.setLong(index++, pending.roomId());
+                statement.setLong(index++, pending.messageDto().getSenderId());
+                statement.setString(index++, pending.messageDto().getContent());
+                statement.setByte(index++, (byte) pending.messageDto().getMessageType().getValue());
+                statement.setBoolean(index++, false);
+                statement.setTimestamp(index++, createdAtTimestamp);
+                statement.setLong(index++, seqs.get(i));
+            }
+            return statement;
+        }, keyHolder);
+
+        List<Long> ids = keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .collect(Collectors.toList());
+        if (ids.size() != messages.size()) {
+            throw new IllegalStateException("생성된 메시지 ID 수가 저장한 메시지 수와 다릅니다: " + ids.size() + "/" + messages.size());
+        }
+        return ids;
+    }
+
+    // 저장 실패를 발신자에게 알림 (동기 경로의 STOMP 오류 응답과 동일한 큐 사용)
+    private void sendError(Long senderId) {
+        try {
+            messagingTemplate.convertAndSendToUser(senderId.toString(), "/queue/errors", "메시지 전송 중 오류가 발생했습니다.");
+        } catch (Exception e) {
+            log.warn("메시지 저장 실패 알림 전송 중 오류: {}", e.getMessage());
+        }
+    }
+
+    private record PendingMessage(Long roomId, ChatMessageRequestDto messageDto) {
+    }
+}
@@ -2,8 +2,10 @@ package org.ktb.matajo.service.chat;
 
 import org.ktb.matajo.dto.chat.ChatMessageRequestDto;
 import org.ktb.matajo.dto.chat.ChatMessageResponseDto;
+import org.ktb.matajo.dto.chat.ChatSyncResponseDto;
 
 import java.util.List;
+import java.util.Map;
 
 public interface ChatMessageService {
     /**
@@ -16,12 +18,37 @@ public interface ChatMessageService {
     ChatMessageResponseDto saveMessage(Long roomId, ChatMessageRequestDto messageDto);
 
     /**
-     * 채팅방의 메시지 목록 조회
+     * 채팅방의 메시지 목록 조회 (messageId 커서 기반)
+     * 커서가 없으면 최신 메시지부터 조회하며, 결과는 항상 messageId 오름차순으로 반환합니다.
      *
      * @param roomId 채팅방 ID
+     * @param beforeMessageId 이 ID보다 이전 메시지 조회 (nullable)
+     * @param afterMessageId 이 ID보다 이후 메시지 조회 (nullable)
+     * @param limit 조회할 최대 메시지 수
      * @return 메시지 목록
      */
-    List<ChatMessageResponseDto> getChatMessages(Long roomId);
+    List<ChatMessageResponseDto> getChatMessages(Long roomId, Long beforeMessageId, Long afterMessageId, int limit);
+
+    /**
+     * 메시지 순번 구간 조회 (재연결 시 누락 구간 재동기화)
+     * 최대 100개까지 seq 오름차순으로 반환하며, 더 남은 경우 마지막 seq 다음부터 다시 요청합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param fromSeq 시작 순번 (포함)
+     * @param toSeq 끝 순번 (포함, nullable - 없으면 최신까지)
+     * @return 메시지 목록
+     */
+    List<ChatMessageResponseDto> getMessagesBySeqRange(Long roomId, Long fromSeq, Long toSeq);
+
+    /**
+     * 참여 중인 채팅방 일괄 동기화 (재연결 시)
+     * 채팅방별 새 메시지, 읽음 워터마크, 참여·이탈한 채팅방을 한 번에 반환하며 메시지 수는 채팅방별·전체 상한으로 제한합니다.
+     *
+     * @param userId 사용자 ID
+     * @param lastSeenMessageIds 채팅방 ID별 마지막으로 받은 메시지 ID
+     * @return 동기화 결과
+     */
+    ChatSyncResponseDto syncChatRooms(Long userId, Map<Long, Long> lastSeenMessageIds);
 
     /**
      * 메시지 읽음 상태 업데이트
@@ -4,24 +4,31 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.ktb.matajo.dto.chat.ChatMessageRequestDto;
 import org.ktb.matajo.dto.chat.ChatMessageResponseDto;
+import org.ktb.matajo.dto.chat.ChatRoomSyncDto;
+import org.ktb.matajo.dto.chat.ChatSyncResponseDto;
 import org.ktb.matajo.entity.*;
 import org.ktb.matajo.global.error.code.ErrorCode;
 import org.ktb.matajo.global.error.exception.BusinessException;
 import org.ktb.matajo.repository.ChatMessageRepository;
 import org.ktb.matajo.repository.ChatRoomRepository;
+import org.ktb.matajo.repository.ChatUserRepository;
 import org.ktb.matajo.repository.UserRepository;
-import org.ktb.matajo.service.notification.NotificationService;
+import org.ktb.matajo.service.outbox.OutboxEventPublisher;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,10 +39,17 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 
     private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatUserRepository chatUserRepository;
     private final UserRepository userRepository;
-//    private final RedisChatMessageService redisChatMessageService;
-    private final NotificationService notificationService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final RedisChatMessageService redisChatMessageService;
+    private final OutboxEventPublisher outboxEventPublisher;
+
+    // 한 번에 조회 가능한 최대 메시지 수
+    private static final int MAX_MESSAGE_PAGE_SIZE = 100;
+
+    // 일괄 동기화 응답의 채팅방별·전체 최대 메시지 수
+    private static final int SYNC_MESSAGES_PER_ROOM = 50;
+    private static final int SYNC_MAX_TOTAL_MESSAGES = 500;
 
     /**
      * 채팅 메시지 저장
@@ -63,8 +77,8 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         // 응답 DTO 생성
         ChatMessageResponseDto responseDto = convertToChatMessageResponseDto(chatMessage);
 
-        // 캐시 및 알림 처리 (비동기적이고 독립적인 처리)
-        handleCacheAndNotification(roomId, responseDto, sender);
+        // 브로드캐스트·캐시·알림은 아웃박스에 기록하여 커밋 후 릴레이가 전파
+        outboxEventPublisher.publish(OutboxEventType.CHAT_MESSAGE, roomId, responseDto);
 
         return responseDto;
     }
@@ -108,72 +122,223 @@ public class ChatMessageServiceImpl implements ChatMessageService {
      * 채팅 메시지 생성 및 저장
      */
     private ChatMessage createAndSaveChatMessage(ChatRoom chatRoom, User sender, ChatMessageRequestDto messageDto) {
+        // 채팅방 순번 발급 (증가 후 같은 트랜잭션에서 읽으므로 다른 저장과 겹치지 않음)
+        chatRoomRepository.incrementMessageSeq(chatRoom.getId(), 1);
+        Long seq = chatRoomRepository.findLastMessageSeq(chatRoom.getId());
+
         ChatMessage chatMessage = ChatMessage.builder()
                 .chatRoom(chatRoom)
                 .user(sender)
+                .seq(seq)
                 .content(messageDto.getContent())
                 .messageType(messageDto.getMessageType())
                 .readStatus(false)
                 .createdAt(LocalDateTime.now(ZoneId.of("Asia/Seoul")))
                 .build();
 
-        return chatMessageRepository.save(chatMessage);
+        ChatMessage savedMessage = chatMessageRepository.save(chatMessage);
+
+        // 채팅방 목록 조회용 마지막 메시지 정보 갱신
+        chatRoomRepository.updateLastMessage(chatRoom.getId(), savedMessage.getId(),
+                savedMessage.getContent(), savedMessage.getCreatedAt());
+
+        return savedMessage;
     }
 
     /**
-     * 캐시 및 알림 처리
+     * 채팅방의 메시지 목록 조회 (messageId 커서 기반)
      */
-    private void handleCacheAndNotification(Long roomId, ChatMessageResponseDto responseDto, User sender) {
-        // 캐시 처리
-//        try {
-//            redisChatMessageService.cacheMessage(roomId, responseDto);
-//        } catch (Exception e) {
-//            log.warn("메시지 캐싱 실패: {}", e.getMessage());
-//        }
-
-        // 알림 처리
-        try {
-            notificationService.sendChatNotification(responseDto, sender.getId());
-        } catch (Exception e) {
-            log.warn("채팅 알림 전송 실패: {}", e.getMessage());
+    @Override
+    public List<ChatMessageResponseDto> getChatMessages(Long roomId, Long beforeMessageId, Long afterMessageId, int limit) {
+
+        validateRoomId(roomId);
+        validateCursor(beforeMessageId, afterMessageId, limit);
+
+        // (room_id, id) 복합 인덱스를 타는 키셋 조회 - 방 크기와 무관하게 limit 만큼만 읽음
+        Pageable pageable = PageRequest.of(0, limit);
+
+        // 이후 메시지 조회 (재연결 시 누락분) - 이미 오름차순
+        if (afterMessageId != null) {
+            return chatMessageRepository.findMessagesAfter(roomId, afterMessageId, pageable);
+        }
+
+        // 이전 메시지 조회 - 내림차순으로 조회 후 화면 표시 순서(오름차순)로 뒤집음
+        if (beforeMessageId != null) {
+            List<ChatMessageResponseDto> messageDtos =
+                    new ArrayList<>(chatMessageRepository.findMessagesBefore(roomId, beforeMessageId, pageable));
+            Collections.reverse(messageDtos);
+            return messageDtos;
         }
+
+        // 첫 페이지이면 캐시에서 먼저 조회 시도
+        List<ChatMessageResponseDto> cachedMessages = redisChatMessageService.getCachedMessages(roomId, limit);
+        if (!cachedMessages.isEmpty()) {
+            log.debug("Redis 캐시에서 메시지 조회: roomId={}, cachedCount={}", roomId, cachedMessages.size());
+            return cachedMessages;
+        }
+
+        // 캐시 미스 - 캐시 용량만큼 조회하여 캐시를 채운 뒤 limit 개만 반환
+        // (조회 전에 토큰을 예약해야 조회 중 커밋된 메시지나 읽음 처리를 빠뜨린 스냅샷이 캐시에 남지 않음)
+        String fillToken = redisChatMessageService.reserveFill(roomId);
+        int fetchSize = Math.max(limit, redisChatMessageService.getCapacity());
+        List<ChatMessageResponseDto> latestMessages =
+                new ArrayList<>(chatMessageRepository.findLatestMessages(roomId, PageRequest.of(0, fetchSize)));
+        Collections.reverse(latestMessages);
+
+        if (fillToken != null) {
+            // 읽음 여부는 캐시 조회 시 참여자별 워터마크로 계산하므로 함께 캐시
+            Map<Long, Long> readWatermarks = new HashMap<>();
+            for (Object[] row : chatUserRepository.findReadWatermarks(roomId)) {
+                readWatermarks.put((Long) row[0], (Long) row[1]);
+            }
+            redisChatMessageService.cacheMessages(roomId, fillToken, latestMessages, readWatermarks);
+        }
+
+        return latestMessages.size() > limit
+                ? latestMessages.subList(latestMessages.size() - limit, latestMessages.size())
+                : latestMessages;
     }
 
     /**
-     * 채팅방의 메시지 목록 조회
+     * 메시지 순번 구간 조회 (재연결 시 누락 구간 재동기화)
      */
     @Override
-    public List<ChatMessageResponseDto> getChatMessages(Long roomId) {
+    public List<ChatMessageResponseDto> getMessagesBySeqRange(Long roomId, Long fromSeq, Long toSeq) {
 
         validateRoomId(roomId);
 
-        // 첫 페이지이면 캐시에서 먼저 조회 시도
-//        if (page == 0) {
-//            List<ChatMessageResponseDto> cachedMessages = redisChatMessageService.getCachedMessages(roomId, size);
-//
-//            if (!cachedMessages.isEmpty()) {
-//                log.info("Redis 캐시에서 메시지 조회: roomId={}, cachedCount={}", roomId, cachedMessages.size());
-//                return cachedMessages;
-//            }
-//        }
-
-        // 메시지 조회
-        List<ChatMessage> messages = chatMessageRepository.findByChatRoomId(roomId);
-
-        List<ChatMessageResponseDto> messageDtos = messages.stream()
-                .map(this::convertToChatMessageResponseDto)
+        if (fromSeq == null || fromSeq <= 0 || (toSeq != null && toSeq < fromSeq)) {
+            log.error("유효하지 않은 메시지 순번 구간입니다: fromSeq={}, toSeq={}", fromSeq, toSeq);
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        // (room_id, seq) 인덱스 범위 조회 - 구간이 크면 최대 페이지 크기만큼만 반환하고 클라이언트가 이어서 요청
+        return chatMessageRepository.findMessagesBySeqRange(roomId, fromSeq,
+                toSeq != null ? toSeq : Long.MAX_VALUE, PageRequest.of(0, MAX_MESSAGE_PAGE_SIZE));
+    }
+
+    /**
+     * 참여 중인 채팅방 일괄 동기화 (재연결 시)
+     */
+    @Override
+    public ChatSyncResponseDto syncChatRooms(Long userId, Map<Long, Long> lastSeenMessageIds) {
+
+        if (userId == null || userId <= 0) {
+            log.error("유효하지 않은 userId 값입니다: {}", userId);
+            throw new BusinessException(ErrorCode.INVALID_USER_ID);
+        }
+
+        Map<Long, Long> lastSeen = lastSeenMessageIds != null ? lastSeenMessageIds : Collections.emptyMap();
+        if (lastSeen.values().stream().anyMatch(messageId -> messageId == null || messageId < 0)) {
+            log.error("유효하지 않은 마지막 메시지 ID가 포함되어 있습니다: userId={}", userId);
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        // 활성 채팅방 (채팅방 ID, 마지막 메시지 ID, 내 읽음 워터마크) - 최근 활동 순으로 메시지 예산 배정
+        List<Object[]> roomStates = new ArrayList<>(chatUserRepository.findActiveRoomSyncStates(userId));
+        roomStates.sort(Comparator.comparing((Object[] state) -> (Long) state[1],
+                Comparator.nullsLast(Comparator.reverseOrder())));
+
+        List<Long> roomIds = roomStates.stream().map(state -> (Long) state[0]).collect(Collectors.toList());
+        Map<Long, Long> counterpartWatermarks = new HashMap<>();
+        if (!roomIds.isEmpty()) {
+            for (Object[] row : chatUserRepository.findCounterpartReadWatermarks(roomIds, userId)) {
+                counterpartWatermarks.put((Long) row[0], (Long) row[1]);
+            }
+        }
+
+        int remainingBudget = SYNC_MAX_TOTAL_MESSAGES;
+        List<ChatRoomSyncDto> rooms = new ArrayList<>(roomStates.size());
+        List<Long> joinedRoomIds = new ArrayList<>();
+
+        for (Object[] state : roomStates) {
+            Long roomId = (Long) state[0];
+            Long lastMessageId = (Long) state[1];
+            Long seenMessageId = lastSeen.get(roomId);
+
+            if (seenMessageId == null) {
+                joinedRoomIds.add(roomId);
+            }
+
+            // 마지막 메시지 컬럼이 비어 있는 기존 채팅방은 새 메시지 여부를 알 수 없으므로 조회
+            boolean hasNewMessages = seenMessageId == null || lastMessageId == null || lastMessageId > seenMessageId;
+
+            ChatRoomSyncDto.ChatRoomSyncDtoBuilder room;
+            int limit = Math.min(SYNC_MESSAGES_PER_ROOM, remainingBudget);
+            if (!hasNewMessages) {
+                room = ChatRoomSyncDto.builder().messages(Collections.emptyList()).hasMore(false);
+            } else if (limit == 0) {
+                // 전체 상한 도달 - 메시지 없이 hasMore 만 표시하여 클라이언트가 개별 조회
+                room = ChatRoomSyncDto.builder().messages(Collections.emptyList()).hasMore(true);
+            } else {
+                room = fetchSyncMessages(roomId, seenMessageId, limit);
+            }
+
+            ChatRoomSyncDto roomSync = room
+                    .roomId(roomId)
+                    .counterpartLastReadMessageId(counterpartWatermarks.getOrDefault(roomId, 0L))
+                    .myLastReadMessageId((Long) state[2])
+                    .build();
+            remainingBudget -= roomSync.getMessages().size();
+            rooms.add(roomSync);
+        }
+
+        // 요청에 있었지만 더 이상 참여 중이 아닌 채팅방
+        Set<Long> activeRoomIds = new HashSet<>(roomIds);
+        List<Long> leftRoomIds = lastSeen.keySet().stream()
+                .filter(roomId -> !activeRoomIds.contains(roomId))
+                .sorted()
                 .collect(Collectors.toList());
 
-        // 첫 페이지 결과를 Redis에 캐싱 - 예외 처리 추가
-//        if (page == 0 && !messageDtos.isEmpty()) {
-//            try {
-//                redisChatMessageService.cacheMessages(roomId, messageDtos);
-//            } catch (Exception e) {
-//                log.warn("메시지 목록 캐싱 실패 (무시됨): {}", e.getMessage());
-//            }
-//        }
+        log.info("채팅방 일괄 동기화: userId={}, rooms={}, joined={}, left={}, messages={}",
+                userId, rooms.size(), joinedRoomIds.size(), leftRoomIds.size(),
+                SYNC_MAX_TOTAL_MESSAGES - remainingBudget);
+
+        return ChatSyncResponseDto.builder()
+                .rooms(rooms)
+                .joinedRoomIds(joinedRoomIds)
+                .leftRoomIds(leftRoomIds)
+                .build();
+    }
+
+    // 동기화 메시지 조회 (오름차순) - 처음 보는 채팅방은 최신 메시지, 그 외에는 마지막으로 받은 메시지 이후
+    // limit 보다 많으면 hasMore (처음 보는 채팅방은 이전 메시지, 그 외에는 이후 메시지가 더 있음)
+    private ChatRoomSyncDto.ChatRoomSyncDtoBuilder fetchSyncMessages(Long roomId, Long seenMessageId, int limit) {
+        Pageable pageable = PageRequest.of(0, limit + 1);
+
+        List<ChatMessageResponseDto> fetched = seenMessageId != null
+                ? chatMessageRepository.findMessagesAfter(roomId, seenMessageId, pageable)
+                : chatMessageRepository.findLatestMessages(roomId, pageable);
+
+        boolean hasMore = fetched.size() > limit;
+        List<ChatMessageResponseDto> messages = new ArrayList<>(hasMore ? fetched.subList(0, limit) : fetched);
+        if (seenMessageId == null) {
+            Collections.reverse(messages);
+        }
 
-        return messageDtos;
+        return ChatRoomSyncDto.builder()
+                .messages(messages)
+                .hasMore(hasMore);
+    }
+
+    /**
+     * 메시지 커서 파라미터 검증
+     */
+    private void validateCursor(Long beforeMessageId, Long afterMessageId, int limit) {
+        if (limit <= 0 || limit > MAX_MESSAGE_PAGE_SIZE) {
+            log.error("유효하지 않은 limit 값입니다: {}", limit);
+            throw new BusinessException(ErrorCode.INVALID_OFFSET_OR_LIMIT);
+        }
+
+        if (beforeMessageId != null && afterMessageId != null) {
+            log.error("before/after 커서는 동시에 사용할 수 없습니다: before={}, after={}", beforeMessageId, afterMessageId);
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        if ((beforeMessageId != null && beforeMessageId <= 0) || (afterMessageId != null && afterMessageId < 0)) {
+            log.error("유효하지 않은 메시지 커서 값입니다: before={}, after={}", beforeMessageId, afterMessageId);
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
     }
 
     /**
@@ -191,47 +356,28 @@ public class ChatMessageServiceImpl implements ChatMessageService {
             throw new BusinessException(ErrorCode.INVALID_USER_ID);
         }
 
-        // 읽지 않은 메시지 중 다른 사용자가 보낸 메시지만 읽음 처리
-        List<ChatMessage> unreadMessages = chatMessageRepository.findUnreadMessagesForUser(roomId, userId);
-
-        for (ChatMessage message : unreadMessages) {
-            message.updateReadStatus(true);
+        // 채팅방의 마지막 메시지까지 읽음 워터마크 전진
+        Long lastMessageId = chatMessageRepository.findLastMessageId(roomId);
+        if (lastMessageId == null) {
+            return;
         }
 
-        chatMessageRepository.saveAll(unreadMessages);
+        int updated = chatUserRepository.advanceReadWatermark(roomId, userId, lastMessageId);
 
-        // Redis 캐시 업데이트 (캐시 무효화) - 예외 처리 추가
-//        try {
-//            redisChatMessageService.invalidateCache(roomId);
-//        } catch (Exception e) {
-//            log.warn("캐시 무효화 실패 (무시됨): {}", e.getMessage());
-//        }
+        // 워터마크가 이미 최신이면 브로드캐스트 생략
+        if (updated == 0) {
+            return;
+        }
 
-        // 읽음 처리된 메시지 ID 목록 수집
-        List<Long> readMessageIds = unreadMessages.stream()
-                .map(ChatMessage::getId)
-                .collect(Collectors.toList());
+        // 캐시된 읽음 워터마크 갱신과 읽음 상태·안 읽은 개수 브로드캐스트는 아웃박스에 기록하여 커밋 후 전파
+        // (이 ID 이하의 메시지는 모두 읽음)
+        Map<String, Object> readStatusUpdate = new HashMap<>();
+        readStatusUpdate.put("type", "READ_STATUS_UPDATE");
+        readStatusUpdate.put("roomId", roomId);
+        readStatusUpdate.put("readBy", userId);
+        readStatusUpdate.put("lastReadMessageId", lastMessageId);
 
-        // 메시지 상태 업데이트 후 WebSocket으로 브로드캐스트
-        if (!readMessageIds.isEmpty()) {
-            Map<String, Object> readStatusUpdate = new HashMap<>();
-            readStatusUpdate.put("type", "READ_STATUS_UPDATE");
-            readStatusUpdate.put("roomId", roomId);
-            readStatusUpdate.put("readBy", userId);
-            readStatusUpdate.put("messageIds", readMessageIds);
-
-            messagingTemplate.convertAndSend("/topic/chat/" + roomId + "/status", readStatusUpdate);
-
-            // 안 읽은 메시지 개수 업데이트 정보도 브로드캐스트
-            Long unreadCount = chatMessageRepository.countUnreadMessages(roomId, userId);
-            Map<String, Object> unreadCountUpdate = new HashMap<>();
-            unreadCountUpdate.put("type", "UNREAD_COUNT_UPDATE");
-            unreadCountUpdate.put("roomId", roomId);
-            unreadCountUpdate.put("userId", userId);
-            unreadCountUpdate.put("unreadCount", unreadCount);
-
-            messagingTemplate.convertAndSend("/topic/chat/unread", unreadCountUpdate);
-        }
+        outboxEventPublisher.publish(OutboxEventType.READ_STATUS, roomId, readStatusUpdate);
     }
 
     /**
@@ -247,6 +393,7 @@ public class ChatMessageServiceImpl implements ChatMessageService {
                 .messageType(message.getMessageType())
                 .readStatus(message.isReadStatus())
                 .createdAt(message.getCreatedAt())
+                .seq(message.getSeq())
                 .build();
     }
 
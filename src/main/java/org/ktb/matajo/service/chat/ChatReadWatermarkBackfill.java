@@ -0,0 +1,52 @@
+package org.ktb.matajo.service.chat;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ktb.matajo.repository.ChatUserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 읽음 워터마크 이관기
+ * 워터마크 도입 이전에는 메시지마다 read_status 플래그로 읽음 여부를 저장했으므로,
+ * 기존 플래그를 기준으로 chat_user.last_read_message_id 를 한 번 보정하여 과거 메시지가 모두 안 읽음으로 보이지 않도록 합니다.
+ * chat_user 전체와 chat_message 를 훑는 일회성 이관이므로 기본으로 꺼져 있으며, 워터마크를 도입하는 배포에서 한 노드만
+ * chat.read-watermark.backfill-enabled=true 로 기동해 한 번 실행한 뒤 다시 끕니다.
+ * 워터마크를 앞으로만 옮기는 조건부 UPDATE라 여러 번 실행되어도 결과는 같습니다.
+ */
+@Slf4j
+@Component
+public class ChatReadWatermarkBackfill {
+
+    private final ChatUserRepository chatUserRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    public ChatReadWatermarkBackfill(ChatUserRepository chatUserRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${chat.read-watermark.backfill-enabled:false}") boolean enabled) {
+        this.chatUserRepository = chatUserRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            Integer updated = transactionTemplate.execute(status ->
+                    chatUserRepository.backfillReadWatermarksFromReadFlags());
+            log.info("기존 읽음 플래그로 읽음 워터마크 보정 완료: 갱신된 참여자 수={} "
+                    + "(이관이 끝났으면 chat.read-watermark.backfill-enabled 를 끄세요)", updated);
+        } catch (Exception e) {
+            // 이관 실패로 서버 기동을 막지 않음 (설정을 유지한 채 다시 기동하면 재시도)
+            log.error("읽음 워터마크 보정 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -10,13 +10,16 @@ import org.ktb.matajo.entity.*;
 import org.ktb.matajo.global.error.code.ErrorCode;
 import org.ktb.matajo.global.error.exception.BusinessException;
 import org.ktb.matajo.repository.*;
+import org.ktb.matajo.repository.projection.ChatRoomInboxProjection;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,6 +33,8 @@ public class ChatRoomServiceImpl implements ChatRoomService {
     private final ChatUserRepository chatUserRepository;
     private final ChatMessageRepository chatMessageRepository;
 
+    private static final DateTimeFormatter MESSAGE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm:ss");
+
     // 채팅방 생성
     @Override
     @Transactional
@@ -112,76 +117,64 @@ public class ChatRoomServiceImpl implements ChatRoomService {
                 .build();
     }
 
-    // ChatRoom 엔티티를 ChatRoomResponseDto로 변환
-    private ChatRoomResponseDto convertToChatRoomResponseDto(ChatRoom chatRoom, Long userId) {
-        Post post = chatRoom.getPost();
+    // 채팅방 리스트
+    @Override
+    public List<ChatRoomResponseDto> getMyChatRooms(Long userId) {
+        // 채팅방, 상대방, 썸네일, 주소, 마지막 메시지, 안 읽은 메시지 수를 단일 쿼리로 조회
+        List<ChatRoomInboxProjection> inbox = chatRoomRepository.findInboxByUserId(userId);
+
+        // 마지막 메시지 컬럼이 채워지기 전의 기존 채팅방은 한 번에 보충 조회
+        Map<Long, ChatMessage> legacyLastMessages = findLegacyLastMessages(inbox);
 
-        // 상대방 정보 가져오기
-        String otherUserNickname;
-        boolean keeperStatus;
-
-        if(post.getUser().getId().equals(userId)) {
-            // 사용자가 보관인인 경우
-            otherUserNickname = chatRoom.getUser().getNickname();
-            keeperStatus = true;
-        } else {
-            // 사용자가 의뢰인인 경우
-            otherUserNickname = post.getUser().getNickname();
-            keeperStatus = false;
+        return inbox.stream()
+                .map(row -> convertToChatRoomResponseDto(row, userId, legacyLastMessages.get(row.getChatRoomId())))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, ChatMessage> findLegacyLastMessages(List<ChatRoomInboxProjection> inbox) {
+        List<Long> legacyRoomIds = inbox.stream()
+                .filter(row -> row.getLastMessageId() == null)
+                .map(ChatRoomInboxProjection::getChatRoomId)
+                .collect(Collectors.toList());
+
+        if (legacyRoomIds.isEmpty()) {
+            return Collections.emptyMap();
         }
 
-        // 게시글 메인 이미지 URL 가져오기
-        String postMainImage = post.getImageList().stream()
-                .filter(Image:: isThumbnailStatus)
-                .findFirst()
-                .map(Image::getImageUrl)
-                .orElse("");
+        return chatMessageRepository.findLastMessagesByRoomIds(legacyRoomIds).stream()
+                .collect(Collectors.toMap(message -> message.getChatRoom().getId(), Function.identity()));
+    }
 
-        // 게시글 주소 가져오기 (도시 -> 동, 시골 -> 리)
-        String postAddress = post.getAddress().getBname();
+    private ChatRoomResponseDto convertToChatRoomResponseDto(ChatRoomInboxProjection row, Long userId,
+                                                             ChatMessage legacyLastMessage) {
+        // 상대방 정보 가져오기 (사용자가 보관인이면 의뢰인, 의뢰인이면 보관인)
+        boolean keeperStatus = row.getKeeperId().equals(userId);
+        String otherUserNickname = keeperStatus ? row.getClientNickname() : row.getKeeperNickname();
 
         // 마지막 메시지 정보
         String lastMessage = "";
         String lastMessageTime = "";
 
-        // 날짜 포매터
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm:ss");
-
-        if (!chatRoom.getChatMessageList().isEmpty()) {
-            ChatMessage lastChatMessage = chatRoom.getChatMessageList().stream()
-                    .max(Comparator.comparing(ChatMessage::getCreatedAt))
-                    .orElse(null);
-
-            if (lastChatMessage != null) {
-                lastMessage = lastChatMessage.getContent();
-                lastMessageTime = formatter.format(lastChatMessage.getCreatedAt());
-            }
+        if (row.getLastMessageId() != null) {
+            lastMessage = row.getLastMessageContent();
+            lastMessageTime = MESSAGE_TIME_FORMATTER.format(row.getLastMessageAt());
+        } else if (legacyLastMessage != null) {
+            lastMessage = legacyLastMessage.getContent();
+            lastMessageTime = MESSAGE_TIME_FORMATTER.format(legacyLastMessage.getCreatedAt());
         }
 
-        long unreadCount = chatMessageRepository.countUnreadMessages(chatRoom.getId(), userId);
-
         return ChatRoomResponseDto.builder()
-                .chatRoomId(chatRoom.getId())
+                .chatRoomId(row.getChatRoomId())
                 .keeperStatus(keeperStatus)
                 .userNickname(otherUserNickname)
-                .postMainImage(postMainImage)
-                .postAddress(postAddress)
+                .postMainImage(Optional.ofNullable(row.getPostMainImage()).orElse(""))
+                .postAddress(Optional.ofNullable(row.getPostAddress()).orElse(""))
                 .lastMessage(lastMessage)
                 .lastMessageTime(lastMessageTime)
-                .unreadCount(unreadCount)
+                .unreadCount(row.getUnreadCount())
                 .build();
     }
 
-    // 채팅방 리스트
-    @Override
-    public List<ChatRoomResponseDto> getMyChatRooms(Long userId) {
-        List<ChatUser> myChatUsers = chatUserRepository.findByUserIdAndActiveStatusIsTrue(userId);
-
-        return myChatUsers.stream()
-                .map(chatUser -> convertToChatRoomResponseDto(chatUser.getChatRoom(), userId))
-                .collect(Collectors.toList());
-    }
-
     /**
      * 채팅방 상세 정보 조회
      */
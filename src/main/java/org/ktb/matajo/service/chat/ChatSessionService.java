@@ -2,6 +2,10 @@ package org.ktb.matajo.service.chat;
 
 import java.util.Set;
 
+/**
+ * 채팅방 접속(구독) 상태 저장소
+ * chat.presence.store 설정으로 구현을 선택합니다. (local: 단일 노드 메모리, redis: 클러스터 공유)
+ */
 public interface ChatSessionService {
     /**
      * 사용자가 채팅방에 입장했을 때 호출
@@ -23,4 +27,19 @@ public interface ChatSessionService {
      * @return 활성 사용자 ID 집합
      */
     Set<Long> getActiveUsersInRoom(Long roomId);
+
+    /**
+     * 사용자가 현재 채팅방을 보고 있는지(구독 중인지) 확인
+     * @param roomId 채팅방 ID
+     * @param userId 사용자 ID
+     * @return 활성 여부
+     */
+    boolean isUserActiveInRoom(Long roomId, Long userId);
+
+    /**
+     * Heartbeat 수신 시 호출 - 접속 상태 유지 시간 갱신 (없으면 다시 등록)
+     * @param roomId 채팅방 ID
+     * @param userId 사용자 ID
+     */
+    void refreshPresence(Long roomId, Long userId);
 }
\ No newline at end of file
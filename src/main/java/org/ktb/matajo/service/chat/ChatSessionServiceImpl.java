@@ -1,24 +1,47 @@
 package org.ktb.matajo.service.chat;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import lombok.extern.slf4j.Slf4j;
 import org.ktb.matajo.global.error.code.ErrorCode;
 import org.ktb.matajo.global.error.exception.BusinessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-
+import java.util.stream.Collectors;
+
+/**
+ * 단일 노드 메모리 기반 채팅방 접속 상태 저장소 (chat.presence.store=local, 기본값)
+ * 채팅방별 사용자 ID를 long 배열로 보관하여 Long 박싱/Set 오버헤드를 없애고,
+ * 최대 추적 채팅방 수를 넘으면 Caffeine 크기 제한으로 오래 활동이 없던 채팅방을 제거합니다.
+ * 조회는 잠금 없이 처리되고 변경은 채팅방 단위 compute로만 직렬화되므로 알림 발송 경로의 접속 확인이 서로 막지 않습니다.
+ */
 @Slf4j
 @Service
+@ConditionalOnProperty(name = "chat.presence.store", havingValue = "local", matchIfMissing = true)
 public class ChatSessionServiceImpl implements ChatSessionService {
-    
-    // 채팅방 ID를 키로, 활성 사용자 ID 집합을 값으로 하는 동시성 지원 Map
-    private final ConcurrentHashMap<Long, Set<Long>> roomToActiveUsers = new ConcurrentHashMap<>();
 
-    // 메모리 이슈 방지를 위한 최대 추적 채팅방 수
-    private static final int MAX_TRACKED_ROOMS = 10000;
+    private static final long[] EMPTY = new long[0];
+
+    // 채팅방 ID -> 활성 사용자 ID 배열 (배열은 교체 방식으로만 변경)
+    private final Cache<Long, long[]> roomToActiveUsers;
+
+    public ChatSessionServiceImpl(@Value("${chat.presence.max-tracked-rooms:10000}") int maxTrackedRooms) {
+        // 메모리 이슈 방지를 위한 최대 추적 채팅방 수 (초과 시 오류 대신 제거)
+        this.roomToActiveUsers = Caffeine.newBuilder()
+                .maximumSize(maxTrackedRooms)
+                .removalListener((Long roomId, long[] activeUsers, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        log.warn("최대 추적 채팅방 수({}) 초과로 오래된 채팅방 접속 정보를 제거했습니다: roomId={}",
+                                maxTrackedRooms, roomId);
+                    }
+                })
+                .build();
+    }
 
     @Override
     public void userJoinedRoom(Long roomId, Long userId) {
@@ -26,82 +49,90 @@ public class ChatSessionServiceImpl implements ChatSessionService {
         validateRoomId(roomId);
         validateUserId(userId);
 
-        // 메모리 한계 확인 (DoS 방지)
-        if (roomToActiveUsers.size() >= MAX_TRACKED_ROOMS && !roomToActiveUsers.containsKey(roomId)) {
-            log.error("최대 추적 가능한 채팅방 수({})에 도달했습니다. 새 채팅방 {}을 추적할 수 없습니다.",
-                    MAX_TRACKED_ROOMS, roomId);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-        }
+        // compute로 같은 채팅방의 변경만 직렬화 (이미 있어도 다시 기록하여 최근 사용으로 갱신)
+        long[] activeUsers = roomToActiveUsers.asMap().compute(roomId, (id, current) -> {
+            long[] users = current != null ? current : EMPTY;
+            if (contains(users, userId)) {
+                return users;
+            }
+            long[] added = Arrays.copyOf(users, users.length + 1);
+            added[added.length - 1] = userId;
+            return added;
+        });
 
-        try {
-            // computeIfAbsent: 해당 roomId에 대한 Set이 없으면 새로 생성
-            Set<Long> activeUsers = roomToActiveUsers.computeIfAbsent(roomId, k ->
-                    Collections.newSetFromMap(new ConcurrentHashMap<>()));
-
-            activeUsers.add(userId);
-            log.debug("사용자 입장: roomId={}, userId={}, 현재 인원={}",
-                    roomId, userId, activeUsers.size());
-        } catch (Exception e) {
-            log.error("사용자 입장 처리 중 오류 발생: roomId={}, userId={}, 오류={}",
-                    roomId, userId, e.getMessage(), e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-        }
+        log.debug("사용자 입장: roomId={}, userId={}, 현재 인원={}", roomId, userId, activeUsers.length);
     }
-    
+
     @Override
     public void userLeftRoom(Long roomId, Long userId) {
 
         validateRoomId(roomId);
         validateUserId(userId);
 
-        try {
-            if (roomToActiveUsers.containsKey(roomId)) {
-                Set<Long> activeUsers = roomToActiveUsers.get(roomId);
-                boolean removed = activeUsers.remove(userId);
-
-                if (!removed) {
-                    log.debug("사용자 {}는 채팅방 {} 활성 사용자 목록에 없습니다", userId, roomId);
-                }
-
-                // 만약 채팅방에 남은 사용자가 없다면 Map에서 해당 항목 제거 (메모리 관리)
-                if (activeUsers.isEmpty()) {
-                    roomToActiveUsers.remove(roomId);
-                    log.debug("빈 채팅방 제거: roomId={}", roomId);
-                }
-
-                log.debug("사용자 퇴장: roomId={}, userId={}, 남은 인원={}",
-                        roomId, userId, activeUsers.size());
-            } else {
-                log.debug("사용자 {} 퇴장 시 채팅방 {}을 찾을 수 없거나 이미 비어 있습니다", userId, roomId);
-            }
-        } catch (Exception e) {
-            log.error("사용자 퇴장 처리 중 오류 발생: roomId={}, userId={}, 오류={}",
-                    roomId, userId, e.getMessage(), e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        if (roomToActiveUsers.getIfPresent(roomId) == null) {
+            log.debug("사용자 {} 퇴장 시 채팅방 {}을 찾을 수 없거나 이미 비어 있습니다", userId, roomId);
+            return;
         }
+
+        // 만약 채팅방에 남은 사용자가 없다면 항목 제거 (메모리 관리)
+        long[] remaining = roomToActiveUsers.asMap().computeIfPresent(roomId, (id, current) -> {
+            if (!contains(current, userId)) {
+                log.debug("사용자 {}는 채팅방 {} 활성 사용자 목록에 없습니다", userId, roomId);
+                return current;
+            }
+            long[] filtered = Arrays.stream(current)
+                    .filter(activeUserId -> activeUserId != userId)
+                    .toArray();
+            return filtered.length == 0 ? null : filtered;
+        });
+
+        log.debug("사용자 퇴장: roomId={}, userId={}, 남은 인원={}",
+                roomId, userId, remaining != null ? remaining.length : 0);
     }
-    
+
     @Override
     public Set<Long> getActiveUsersInRoom(Long roomId) {
 
         validateRoomId(roomId);
 
-        try {
-            // 해당 roomId에 대한 Set이 없으면 빈 Set 반환
-            Set<Long> result = roomToActiveUsers.getOrDefault(roomId, Collections.emptySet());
+        // 배열은 교체 방식으로만 변경되므로 잠금 없이 복사해도 안전
+        long[] activeUsers = activeUsersOf(roomId);
+        Set<Long> result = Arrays.stream(activeUsers)
+                .boxed()
+                .collect(Collectors.toUnmodifiableSet());
 
-            // 외부 수정 방지를 위한 방어적 복사
-            Set<Long> defensiveCopy = Collections.unmodifiableSet(new HashSet<>(result));
+        log.debug("활성 사용자 조회: roomId={}, 인원={}", roomId, result.size());
+        return result;
+    }
 
-            log.debug("활성 사용자 조회: roomId={}, 인원={}", roomId, result.size());
-            return defensiveCopy;
-        } catch (Exception e) {
-            log.error("활성 사용자 조회 중 오류 발생: roomId={}, 오류={}",
-                    roomId, e.getMessage(), e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+    @Override
+    public boolean isUserActiveInRoom(Long roomId, Long userId) {
+        if (roomId == null || userId == null) {
+            return false;
         }
+
+        return contains(activeUsersOf(roomId), userId);
+    }
+
+    @Override
+    public void refreshPresence(Long roomId, Long userId) {
+        // 로컬 저장소는 만료 시간이 없으므로 재등록(최근 사용 갱신)만 수행
+        userJoinedRoom(roomId, userId);
     }
 
+    private long[] activeUsersOf(Long roomId) {
+        long[] activeUsers = roomToActiveUsers.getIfPresent(roomId);
+        return activeUsers != null ? activeUsers : EMPTY;
+    }
+
+    private boolean contains(long[] activeUsers, long userId) {
+        for (long activeUserId : activeUsers) {
+            if (activeUserId == userId) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     // 채팅방 ID 유효성 검사
     private void validateRoomId(Long roomId) {
@@ -129,4 +160,4 @@ public class ChatSessionServiceImpl implements ChatSessionService {
         }
     }
 
-}
\ No newline at end of file
+}
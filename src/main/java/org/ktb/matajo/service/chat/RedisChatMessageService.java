@@ -1,43 +1,74 @@
-//package org.ktb.matajo.service.chat;
-//
-//import org.ktb.matajo.dto.chat.ChatMessageResponseDto;
-//
-//import java.util.List;
-//
-///**
-// * Redis를 활용한 채팅 메시지 캐싱 서비스 인터페이스
-// */
-//public interface RedisChatMessageService {
-//
-//    /**
-//     * 단일 메시지 캐싱
-//     *
-//     * @param roomId 채팅방 ID
-//     * @param message 캐싱할 메시지
-//     */
-//    void cacheMessage(Long roomId, ChatMessageResponseDto message);
-//
-//    /**
-//     * 메시지 리스트 캐싱
-//     *
-//     * @param roomId 채팅방 ID
-//     * @param messages 캐싱할 메시지 리스트
-//     */
-//    void cacheMessages(Long roomId, List<ChatMessageResponseDto> messages);
-//
-//    /**
-//     * 캐시된 메시지 조회
-//     *
-//     * @param roomId 채팅방 ID
-//     * @param limit 조회할 최대 메시지 수
-//     * @return 캐시된 메시지 리스트
-//     */
-//    List<ChatMessageResponseDto> getCachedMessages(Long roomId, int limit);
-//
-//    /**
-//     * 채팅방의 캐시 무효화
-//     *
-//     * @param roomId 채팅방 ID
-//     */
-//    void invalidateCache(Long roomId);
-//}
\ No newline at end of file
+package org.ktb.matajo.service.chat;
+
+import org.ktb.matajo.dto.chat.ChatMessageResponseDto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis를 활용한 채팅방 최근 메시지 캐싱 서비스 인터페이스
+ * 채팅방별로 최근 N개의 메시지를 최신순 리스트(ring buffer)로 유지합니다.
+ * 읽음 여부는 메시지마다 캐시하지 않고 참여자별 읽음 워터마크를 따로 캐시하여, 조회 시 계산합니다.
+ */
+public interface RedisChatMessageService {
+
+    /**
+     * 단일 메시지 캐싱 (캐시가 이미 존재하는 채팅방에만 추가)
+     *
+     * @param roomId 채팅방 ID
+     * @param message 캐싱할 메시지
+     */
+    void cacheMessage(Long roomId, ChatMessageResponseDto message);
+
+    /**
+     * 캐시 채우기 토큰 예약 (캐시 미스로 DB를 조회하기 전에 호출)
+     * 조회 도중 메시지가 추가되거나 캐시가 무효화되면 토큰이 사라져 해당 조회 결과는 캐시되지 않습니다.
+     *
+     * @param roomId 채팅방 ID
+     * @return 채우기 토큰, 다른 요청이 이미 채우는 중이거나 Redis 오류이면 null
+     */
+    String reserveFill(Long roomId);
+
+    /**
+     * 메시지 리스트와 참여자별 읽음 워터마크 캐싱 (채우기 토큰이 유효할 때만 기존 캐시 교체)
+     *
+     * @param roomId 채팅방 ID
+     * @param fillToken reserveFill 로 예약한 토큰 (null 이면 캐싱하지 않음)
+     * @param messages 캐싱할 메시지 리스트 (messageId 오름차순)
+     * @param readWatermarks 참여자 ID -> 읽음 워터마크 (마지막으로 읽은 메시지 ID)
+     */
+    void cacheMessages(Long roomId, String fillToken, List<ChatMessageResponseDto> messages,
+                       Map<Long, Long> readWatermarks);
+
+    /**
+     * 캐시된 최근 메시지 조회 (읽음 여부는 캐시된 상대방 읽음 워터마크로 계산)
+     *
+     * @param roomId 채팅방 ID
+     * @param limit 조회할 최대 메시지 수
+     * @return 캐시된 메시지 리스트 (messageId 오름차순), 캐시로 응답할 수 없으면 빈 리스트
+     */
+    List<ChatMessageResponseDto> getCachedMessages(Long roomId, int limit);
+
+    /**
+     * 캐시된 참여자 읽음 워터마크 전진 (캐시가 있는 채팅방에만 반영, 메시지 리스트는 유지)
+     *
+     * @param roomId 채팅방 ID
+     * @param userId 읽은 사용자 ID
+     * @param lastReadMessageId 마지막으로 읽은 메시지 ID
+     */
+    void updateReadWatermark(Long roomId, Long userId, Long lastReadMessageId);
+
+    /**
+     * 채팅방의 캐시 무효화
+     *
+     * @param roomId 채팅방 ID
+     */
+    void invalidateCache(Long roomId);
+
+    /**
+     * 채팅방별 최대 캐시 메시지 수
+     *
+     * @return 캐시 용량
+     */
+    int getCapacity();
+}
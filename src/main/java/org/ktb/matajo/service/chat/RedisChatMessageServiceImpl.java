@@ -1,159 +1,321 @@
-//package org.ktb.matajo.service.chat;
-//
-//import com.fasterxml.jackson.databind.ObjectMapper;
-//import com.fasterxml.jackson.databind.module.SimpleModule;
-//import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
-//import lombok.RequiredArgsConstructor;
-//import lombok.extern.slf4j.Slf4j;
-//import org.ktb.matajo.dto.chat.ChatMessageResponseDto;
-//import org.springframework.data.redis.core.RedisTemplate;
-//import org.springframework.stereotype.Service;
-//
-//import java.time.LocalDateTime;
-//import java.time.format.DateTimeFormatter;
-//import java.util.Collections;
-//import java.util.List;
-//import java.util.Map;
-//import java.util.concurrent.TimeUnit;
-//import java.util.stream.Collectors;
-//
-///**
-// * Redis를 활용한 채팅 메시지 캐싱 서비스 구현체
-// */
-//@Service
-//@RequiredArgsConstructor
-//@Slf4j
-//public class RedisChatMessageServiceImpl implements RedisChatMessageService {
-//
-//    private final RedisTemplate<String, Object> redisTemplate;
-//    private final ObjectMapper objectMapper;
-//
-//    // Redis 캐시 키 접두사
-//    private static final String CHAT_MESSAGES_KEY = "chat:messages:";
-//    // Redis 캐시 만료 시간 (24시간)
-//    private static final long CACHE_TTL_HOURS = 24;
-//    // 날짜 포맷
-//    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm:ss");
-//
-//    /**
-//     * 단일 메시지 캐싱
-//     */
-//    @Override
-//    public void cacheMessage(Long roomId, ChatMessageResponseDto message) {
-//        try {
-//            String cacheKey = CHAT_MESSAGES_KEY + roomId;
-//            redisTemplate.opsForList().rightPush(cacheKey, message);
-//            redisTemplate.expire(cacheKey, CACHE_TTL_HOURS, TimeUnit.HOURS);
-//            log.debug("메시지 캐싱 성공: roomId={}, messageId={}", roomId, message.getMessageId());
-//        } catch (Exception e) {
-//            log.error("메시지 캐싱 중 오류 발생: {}", e.getMessage(), e);
-//        }
-//    }
-//
-//    /**
-//     * 메시지 리스트 캐싱
-//     */
-//    @Override
-//    public void cacheMessages(Long roomId, List<ChatMessageResponseDto> messages) {
-//        try {
-//            if (messages.isEmpty()) {
-//                return;
-//            }
-//
-//            String cacheKey = CHAT_MESSAGES_KEY + roomId;
-//            // 기존 캐시 삭제
-//            redisTemplate.delete(cacheKey);
-//
-//            // 새로운 데이터 캐싱
-//            for (ChatMessageResponseDto dto : messages) {
-//                redisTemplate.opsForList().rightPush(cacheKey, dto);
-//            }
-//            redisTemplate.expire(cacheKey, CACHE_TTL_HOURS, TimeUnit.HOURS);
-//            log.debug("메시지 리스트 캐싱 성공: roomId={}, count={}", roomId, messages.size());
-//        } catch (Exception e) {
-//            log.error("메시지 리스트 캐싱 중 오류 발생: {}", e.getMessage(), e);
-//        }
-//    }
-//
-//    /**
-//     * 캐시된 메시지 조회
-//     */
-//    @Override
-//    @SuppressWarnings("unchecked")
-//    public List<ChatMessageResponseDto> getCachedMessages(Long roomId, int limit) {
-//        try {
-//            String cacheKey = CHAT_MESSAGES_KEY + roomId;
-//            Long size = redisTemplate.opsForList().size(cacheKey);
-//
-//            if (size == null || size == 0) {
-//                return Collections.emptyList();
-//            }
-//
-//            // 최대 limit 개수만큼 가져오기
-//            int endIndex = Math.min(limit - 1, size.intValue() - 1);
-//            List<Object> cachedMessages = redisTemplate.opsForList().range(cacheKey, 0, endIndex);
-//
-//            if (cachedMessages == null || cachedMessages.isEmpty()) {
-//                return Collections.emptyList();
-//            }
-//
-//            // LocalDateTime 처리를 위한 커스텀 ObjectMapper 생성
-//            ObjectMapper dateMapper = objectMapper.copy();
-//            SimpleModule module = new SimpleModule();
-//            module.addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(DATE_FORMAT));
-//            dateMapper.registerModule(module);
-//
-//            // LinkedHashMap -> ChatMessageResponseDto 변환 로직 수정
-//            return cachedMessages.stream()
-//                    .map(msg -> {
-//                        try {
-//                            if (msg instanceof ChatMessageResponseDto) {
-//                                return (ChatMessageResponseDto) msg;
-//                            } else if (msg instanceof Map) {
-//                                Map<String, Object> mapMsg = (Map<String, Object>) msg;
-//
-//                                // createdAt 필드가 문자열인 경우 직접 처리
-//                                if (mapMsg.containsKey("created_at") && mapMsg.get("created_at") instanceof String) {
-//                                    String dateStr = (String) mapMsg.get("created_at");
-//                                    try {
-//                                        // 문자열을 LocalDateTime으로 파싱
-//                                        LocalDateTime dateTime = LocalDateTime.parse(dateStr, DATE_FORMAT);
-//                                        mapMsg.put("created_at", dateTime);
-//                                    } catch (Exception e) {
-//                                        log.warn("날짜 변환 실패: {} - {}", dateStr, e.getMessage());
-//                                    }
-//                                }
-//
-//                                // 커스텀 ObjectMapper로 변환
-//                                return dateMapper.convertValue(mapMsg, ChatMessageResponseDto.class);
-//                            } else {
-//                                log.warn("알 수 없는 메시지 타입: {}", msg.getClass().getName());
-//                                return null;
-//                            }
-//                        } catch (Exception e) {
-//                            log.error("메시지 변환 중 오류 발생: {}", e.getMessage(), e);
-//                            return null;
-//                        }
-//                    })
-//                    .filter(dto -> dto != null)
-//                    .collect(Collectors.toList());
-//        } catch (Exception e) {
-//            log.error("캐시된 메시지 조회 중 오류 발생: {}", e.getMessage(), e);
-//            return Collections.emptyList();
-//        }
-//    }
-//
-//    /**
-//     * 채팅방의 캐시 무효화
-//     */
-//    @Override
-//    public void invalidateCache(Long roomId) {
-//        try {
-//            String cacheKey = CHAT_MESSAGES_KEY + roomId;
-//            redisTemplate.delete(cacheKey);
-//            log.debug("채팅방 캐시 무효화 성공: roomId={}", roomId);
-//        } catch (Exception e) {
-//            log.error("채팅방 캐시 무효화 중 오류 발생: {}", e.getMessage(), e);
-//        }
-//    }
-//}
\ No newline at end of file
+package org.ktb.matajo.service.chat;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.ktb.matajo.dto.chat.ChatMessageResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis를 활용한 채팅방 최근 메시지 캐싱 서비스 구현체
+ * 리스트 head에 최신 메시지를 LPUSH 하고 LTRIM 으로 용량을 유지하는 ring buffer 구조입니다.
+ * 읽음 여부는 읽을 때마다 바뀌므로 메시지 항목에 두지 않고, 참여자별 읽음 워터마크 해시를 따로 두어 조회 시 계산합니다.
+ * (읽음 이벤트는 워터마크만 갱신하고 메시지 리스트는 유지)
+ * 캐시 미스 채우기는 DB 조회 전에 채우기 토큰을 예약하고, 그 사이 메시지 추가나 무효화가 토큰을 지우면
+ * 조회한 스냅샷이 오래된 것이므로 쓰지 않습니다. (WATCH/MULTI 로 토큰 확인과 쓰기를 원자적으로 처리)
+ */
+@Slf4j
+@Service
+public class RedisChatMessageServiceImpl implements RedisChatMessageService {
+
+    // Redis 캐시 키 접두사
+    private static final String CHAT_MESSAGES_KEY = "chat:messages:";
+    // Redis 캐시 만료 시간 (24시간)
+    private static final Duration CACHE_TTL = Duration.ofHours(24);
+    // 캐시 채우기 토큰 키 접두사 및 유효 시간 (DB 조회가 이보다 오래 걸리면 채우기를 포기)
+    private static final String CHAT_MESSAGES_FILL_KEY = "chat:messages:fill:";
+    private static final Duration FILL_TOKEN_TTL = Duration.ofSeconds(10);
+    // 참여자별 읽음 워터마크 해시 키 접두사 (필드: 사용자 ID, 값: 마지막으로 읽은 메시지 ID)
+    private static final String CHAT_MESSAGES_READ_KEY = "chat:messages:read:";
+
+    // 워터마크 해시가 있을 때만 더 큰 값으로 전진 (진행 중인 캐시 채우기는 이전 워터마크를 조회했을 수 있으므로 토큰 제거)
+    private static final byte[] ADVANCE_READ_WATERMARK_SCRIPT = (
+            "redis.call('DEL', KEYS[2]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "local current = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') " +
+            "if current < tonumber(ARGV[2]) then " +
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) return 1 end " +
+            "return 0").getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, ChatMessageResponseDto> chatMessageRedisTemplate;
+    private final int capacity;
+
+    // 캐시 적중/미스 카운터 (Prometheus: chat_message_cache_total{result="hit|miss"})
+    private final Counter cacheHitCounter;
+    private final Counter cacheMissCounter;
+
+    public RedisChatMessageServiceImpl(RedisTemplate<String, ChatMessageResponseDto> chatMessageRedisTemplate,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${chat.message-cache.capacity:100}") int capacity) {
+        this.chatMessageRedisTemplate = chatMessageRedisTemplate;
+        this.capacity = capacity;
+        this.cacheHitCounter = Counter.builder("chat.message.cache")
+                .description("채팅 메시지 캐시 조회 결과")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.cacheMissCounter = Counter.builder("chat.message.cache")
+                .description("채팅 메시지 캐시 조회 결과")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 단일 메시지 캐싱
+     * 캐시가 없는 채팅방에 단건만 쌓이면 첫 페이지가 불완전해지므로 LPUSHX 로 기존 캐시에만 추가합니다.
+     * 아웃박스 재전달이나 캐시 채우기와의 경합으로 이미 캐시에 들어간 메시지는 다시 추가하지 않습니다.
+     */
+    @Override
+    public void cacheMessage(Long roomId, ChatMessageResponseDto message) {
+        String cacheKey = CHAT_MESSAGES_KEY + roomId;
+        try {
+            ChatMessageResponseDto newest = chatMessageRedisTemplate.opsForList().index(cacheKey, 0);
+            if (newest != null && newest.getMessageId() >= message.getMessageId()) {
+                log.debug("이미 캐시된 메시지 건너뜀: roomId={}, messageId={}", roomId, message.getMessageId());
+                return;
+            }
+
+            chatMessageRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, ChatMessageResponseDto> ops =
+                            (RedisOperations<String, ChatMessageResponseDto>) operations;
+                    // 진행 중인 캐시 채우기의 스냅샷에는 이 메시지가 없을 수 있으므로 토큰을 지워 쓰기를 막음
+                    ops.delete(CHAT_MESSAGES_FILL_KEY + roomId);
+                    ops.opsForList().leftPushIfPresent(cacheKey, message);
+                    ops.opsForList().trim(cacheKey, 0, capacity - 1);
+                    ops.expire(cacheKey, CACHE_TTL);
+                    ops.expire(CHAT_MESSAGES_READ_KEY + roomId, CACHE_TTL);
+                    return null;
+                }
+            });
+            log.debug("메시지 캐싱 성공: roomId={}, messageId={}", roomId, message.getMessageId());
+        } catch (Exception e) {
+            log.error("메시지 캐싱 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 캐시 채우기 토큰 예약
+     */
+    @Override
+    public String reserveFill(Long roomId) {
+        String token = UUID.randomUUID().toString();
+        byte[] fillKey = (CHAT_MESSAGES_FILL_KEY + roomId).getBytes(StandardCharsets.UTF_8);
+        byte[] tokenBytes = token.getBytes(StandardCharsets.UTF_8);
+
+        try {
+            Boolean reserved = chatMessageRedisTemplate.execute((RedisCallback<Boolean>) connection ->
+                    connection.stringCommands().set(fillKey, tokenBytes,
+                            Expiration.from(FILL_TOKEN_TTL), RedisStringCommands.SetOption.SET_IF_ABSENT));
+            // 다른 요청이 이미 채우는 중이면 이번 조회 결과는 캐시하지 않음
+            return Boolean.TRUE.equals(reserved) ? token : null;
+        } catch (Exception e) {
+            log.error("캐시 채우기 토큰 예약 중 오류 발생: {}", e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 메시지 리스트 캐싱
+     */
+    @Override
+    public void cacheMessages(Long roomId, String fillToken, List<ChatMessageResponseDto> messages,
+                              Map<Long, Long> readWatermarks) {
+        if (fillToken == null || messages == null || messages.isEmpty()
+                || readWatermarks == null || readWatermarks.isEmpty()) {
+            return;
+        }
+
+        byte[] cacheKey = (CHAT_MESSAGES_KEY + roomId).getBytes(StandardCharsets.UTF_8);
+        byte[] fillKey = (CHAT_MESSAGES_FILL_KEY + roomId).getBytes(StandardCharsets.UTF_8);
+        byte[] readKey = (CHAT_MESSAGES_READ_KEY + roomId).getBytes(StandardCharsets.UTF_8);
+        byte[] tokenBytes = fillToken.getBytes(StandardCharsets.UTF_8);
+
+        Map<byte[], byte[]> watermarkFields = new HashMap<>(readWatermarks.size());
+        readWatermarks.forEach((userId, watermark) -> watermarkFields.put(
+                String.valueOf(userId).getBytes(StandardCharsets.UTF_8),
+                String.valueOf(watermark != null ? watermark : 0L).getBytes(StandardCharsets.UTF_8)));
+
+        // 오름차순 목록의 마지막 capacity 개만 최신순(head = 최신)으로 적재
+        List<ChatMessageResponseDto> newestFirst =
+                new ArrayList<>(messages.subList(Math.max(0, messages.size() - capacity), messages.size()));
+        Collections.reverse(newestFirst);
+
+        @SuppressWarnings("unchecked")
+        RedisSerializer<ChatMessageResponseDto> valueSerializer =
+                (RedisSerializer<ChatMessageResponseDto>) chatMessageRedisTemplate.getValueSerializer();
+        byte[][] values = newestFirst.stream().map(valueSerializer::serialize).toArray(byte[][]::new);
+
+        try {
+            Boolean written = chatMessageRedisTemplate.execute((RedisCallback<Boolean>) connection -> {
+                // 토큰이 그대로일 때만 교체 (확인 이후 토큰이 바뀌면 EXEC 가 취소됨)
+                connection.watch(fillKey);
+                if (!Arrays.equals(tokenBytes, connection.stringCommands().get(fillKey))) {
+                    connection.unwatch();
+                    return false;
+                }
+                connection.multi();
+                connection.keyCommands().del(cacheKey, fillKey, readKey);
+                connection.listCommands().rPush(cacheKey, values);
+                connection.hashCommands().hMSet(readKey, watermarkFields);
+                connection.keyCommands().expire(cacheKey, CACHE_TTL.getSeconds());
+                connection.keyCommands().expire(readKey, CACHE_TTL.getSeconds());
+                List<Object> results = connection.exec();
+                return results != null && !results.isEmpty();
+            });
+
+            if (Boolean.TRUE.equals(written)) {
+                log.debug("메시지 리스트 캐싱 성공: roomId={}, count={}", roomId, newestFirst.size());
+            } else {
+                log.debug("조회 중 새 메시지 또는 무효화가 있어 메시지 리스트 캐싱 생략: roomId={}", roomId);
+            }
+        } catch (Exception e) {
+            log.error("메시지 리스트 캐싱 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 캐시된 메시지 조회
+     * 캐시는 항상 최신 capacity 개로 유지되므로, 캐시 크기가 limit 미만이면 채팅방 전체가 캐시된 상태입니다.
+     */
+    @Override
+    public List<ChatMessageResponseDto> getCachedMessages(Long roomId, int limit) {
+        if (limit > capacity) {
+            cacheMissCounter.increment();
+            return Collections.emptyList();
+        }
+
+        try {
+            String cacheKey = CHAT_MESSAGES_KEY + roomId;
+            List<ChatMessageResponseDto> cachedMessages =
+                    chatMessageRedisTemplate.opsForList().range(cacheKey, 0, limit - 1);
+
+            if (cachedMessages == null || cachedMessages.isEmpty()) {
+                cacheMissCounter.increment();
+                return Collections.emptyList();
+            }
+
+            // 읽음 워터마크가 없으면 읽음 여부를 계산할 수 없으므로 캐시 미스로 처리
+            Map<Long, Long> readWatermarks = getReadWatermarks(roomId);
+            if (readWatermarks.isEmpty()) {
+                cacheMissCounter.increment();
+                return Collections.emptyList();
+            }
+
+            // head 가 최신이므로 오름차순으로 뒤집어 반환
+            List<ChatMessageResponseDto> result = new ArrayList<>(cachedMessages.size());
+            for (int i = cachedMessages.size() - 1; i >= 0; i--) {
+                result.add(withReadStatus(cachedMessages.get(i), readWatermarks));
+            }
+
+            cacheHitCounter.increment();
+            return result;
+        } catch (Exception e) {
+            log.error("캐시된 메시지 조회 중 오류 발생: {}", e.getMessage(), e);
+            cacheMissCounter.increment();
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * 캐시된 참여자 읽음 워터마크 전진
+     */
+    @Override
+    public void updateReadWatermark(Long roomId, Long userId, Long lastReadMessageId) {
+        byte[] readKey = (CHAT_MESSAGES_READ_KEY + roomId).getBytes(StandardCharsets.UTF_8);
+        byte[] fillKey = (CHAT_MESSAGES_FILL_KEY + roomId).getBytes(StandardCharsets.UTF_8);
+        byte[] userIdBytes = String.valueOf(userId).getBytes(StandardCharsets.UTF_8);
+        byte[] watermarkBytes = String.valueOf(lastReadMessageId).getBytes(StandardCharsets.UTF_8);
+
+        try {
+            chatMessageRedisTemplate.execute((RedisCallback<Long>) connection ->
+                    connection.scriptingCommands().eval(ADVANCE_READ_WATERMARK_SCRIPT, ReturnType.INTEGER, 2,
+                            readKey, fillKey, userIdBytes, watermarkBytes));
+            log.debug("읽음 워터마크 캐시 갱신: roomId={}, userId={}, lastReadMessageId={}",
+                    roomId, userId, lastReadMessageId);
+        } catch (Exception e) {
+            // 갱신하지 못한 워터마크로 읽음 여부가 틀리지 않도록 캐시를 비움
+            log.error("읽음 워터마크 캐시 갱신 중 오류 발생: {}", e.getMessage(), e);
+            invalidateCache(roomId);
+        }
+    }
+
+    // 캐시된 참여자별 읽음 워터마크 (사용자 ID -> 마지막으로 읽은 메시지 ID)
+    private Map<Long, Long> getReadWatermarks(Long roomId) {
+        byte[] readKey = (CHAT_MESSAGES_READ_KEY + roomId).getBytes(StandardCharsets.UTF_8);
+        Map<byte[], byte[]> fields = chatMessageRedisTemplate.execute(
+                (RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(readKey));
+        if (fields == null || fields.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, Long> readWatermarks = new HashMap<>(fields.size());
+        fields.forEach((userId, watermark) -> readWatermarks.put(
+                Long.valueOf(new String(userId, StandardCharsets.UTF_8)),
+                Long.valueOf(new String(watermark, StandardCharsets.UTF_8))));
+        return readWatermarks;
+    }
+
+    // 발신자가 아닌 참여자의 워터마크가 메시지 ID 이상이면 읽음 (DB 조회의 READ_BY_COUNTERPART 와 같은 기준)
+    private ChatMessageResponseDto withReadStatus(ChatMessageResponseDto message, Map<Long, Long> readWatermarks) {
+        long counterpartWatermark = 0L;
+        for (Map.Entry<Long, Long> entry : readWatermarks.entrySet()) {
+            if (!entry.getKey().equals(message.getSenderId())) {
+                counterpartWatermark = Math.max(counterpartWatermark, entry.getValue());
+            }
+        }
+
+        return ChatMessageResponseDto.builder()
+                .messageId(message.getMessageId())
+                .roomId(message.getRoomId())
+                .senderId(message.getSenderId())
+                .content(message.getContent())
+                .messageType(message.getMessageType())
+                .readStatus(message.getMessageId() <= counterpartWatermark)
+                .createdAt(message.getCreatedAt())
+                .senderNickname(message.getSenderNickname())
+                .seq(message.getSeq())
+                .build();
+    }
+
+    /**
+     * 채팅방의 캐시 무효화
+     */
+    @Override
+    public void invalidateCache(Long roomId) {
+        try {
+            // 진행 중인 캐시 채우기도 무효화 이전 상태일 수 있으므로 함께 제거
+            chatMessageRedisTemplate.delete(List.of(CHAT_MESSAGES_KEY + roomId, CHAT_MESSAGES_FILL_KEY + roomId,
+                    CHAT_MESSAGES_READ_KEY + roomId));
+            log.debug("채팅방 캐시 무효화 성공: roomId={}", roomId);
+        } catch (Exception e) {
+            log.error("채팅방 캐시 무효화 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+}
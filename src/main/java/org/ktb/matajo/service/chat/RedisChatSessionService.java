@@ -0,0 +1,144 @@
+package org.ktb.matajo.service.chat;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ktb.matajo.global.error.code.ErrorCode;
+import org.ktb.matajo.global.error.exception.BusinessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 기반 채팅방 접속 상태 저장소 (chat.presence.store=redis)
+ * 여러 애플리케이션 노드가 같은 접속 상태를 공유하도록 채팅방별 Sorted Set에
+ * 사용자 ID와 마지막 활동 시각(score)을 저장합니다.
+ * Heartbeat가 끊긴 사용자는 TTL이 지나면 비활성으로 간주되어 노드 장애 시에도 정리됩니다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "chat.presence.store", havingValue = "redis")
+public class RedisChatSessionService implements ChatSessionService {
+
+    private static final String PRESENCE_KEY_PREFIX = "chat:presence:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration presenceTtl;
+
+    public RedisChatSessionService(StringRedisTemplate redisTemplate,
+                                   @Value("${chat.presence.ttl-seconds:120}") long presenceTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.presenceTtl = Duration.ofSeconds(presenceTtlSeconds);
+    }
+
+    @Override
+    public void userJoinedRoom(Long roomId, Long userId) {
+        validateIds(roomId, userId);
+
+        try {
+            touch(roomId, userId);
+            log.debug("사용자 입장: roomId={}, userId={}", roomId, userId);
+        } catch (Exception e) {
+            log.error("사용자 입장 처리 중 오류 발생: roomId={}, userId={}, 오류={}",
+                    roomId, userId, e.getMessage(), e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Override
+    public void userLeftRoom(Long roomId, Long userId) {
+        validateIds(roomId, userId);
+
+        try {
+            redisTemplate.opsForZSet().remove(presenceKey(roomId), userId.toString());
+            log.debug("사용자 퇴장: roomId={}, userId={}", roomId, userId);
+        } catch (Exception e) {
+            log.error("사용자 퇴장 처리 중 오류 발생: roomId={}, userId={}, 오류={}",
+                    roomId, userId, e.getMessage(), e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Override
+    public Set<Long> getActiveUsersInRoom(Long roomId) {
+        if (roomId == null || roomId <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_CHAT_ROOM_ID);
+        }
+
+        try {
+            String key = presenceKey(roomId);
+
+            // TTL이 지난 사용자 정리 후 활성 사용자 조회
+            redisTemplate.opsForZSet().removeRangeByScore(key, 0, expiredBefore());
+            Set<String> members = redisTemplate.opsForZSet().range(key, 0, -1);
+
+            if (members == null || members.isEmpty()) {
+                return Collections.emptySet();
+            }
+            return members.stream()
+                    .map(Long::valueOf)
+                    .collect(Collectors.toUnmodifiableSet());
+        } catch (Exception e) {
+            log.error("활성 사용자 조회 중 오류 발생: roomId={}, 오류={}", roomId, e.getMessage(), e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Override
+    public boolean isUserActiveInRoom(Long roomId, Long userId) {
+        if (roomId == null || userId == null) {
+            return false;
+        }
+
+        try {
+            Double lastSeenAt = redisTemplate.opsForZSet().score(presenceKey(roomId), userId.toString());
+            return lastSeenAt != null && lastSeenAt > expiredBefore();
+        } catch (Exception e) {
+            // 조회 실패 시 비활성으로 간주 (알림을 놓치지 않는 쪽으로)
+            log.warn("접속 상태 조회 실패: roomId={}, userId={}, 오류={}", roomId, userId, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void refreshPresence(Long roomId, Long userId) {
+        validateIds(roomId, userId);
+
+        try {
+            touch(roomId, userId);
+        } catch (Exception e) {
+            log.warn("접속 상태 갱신 실패: roomId={}, userId={}, 오류={}", roomId, userId, e.getMessage());
+        }
+    }
+
+    // 마지막 활동 시각 기록 및 채팅방 키 만료 시간 연장
+    private void touch(Long roomId, Long userId) {
+        String key = presenceKey(roomId);
+        redisTemplate.opsForZSet().add(key, userId.toString(), System.currentTimeMillis());
+        redisTemplate.expire(key, presenceTtl);
+    }
+
+    private double expiredBefore() {
+        return System.currentTimeMillis() - presenceTtl.toMillis();
+    }
+
+    private String presenceKey(Long roomId) {
+        return PRESENCE_KEY_PREFIX + roomId;
+    }
+
+    private void validateIds(Long roomId, Long userId) {
+        if (roomId == null || roomId <= 0) {
+            log.warn("roomId가 유효하지 않습니다: {}", roomId);
+            throw new BusinessException(ErrorCode.INVALID_CHAT_ROOM_ID);
+        }
+
+        if (userId == null || userId <= 0) {
+            log.warn("userId가 유효하지 않습니다: {}", userId);
+            throw new BusinessException(ErrorCode.INVALID_USER_ID);
+        }
+    }
+}
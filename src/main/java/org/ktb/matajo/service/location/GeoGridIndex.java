@@ -0,0 +1,141 @@
+package org.ktb.matajo.service.location;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 격자(grid) 버킷 기반 불변 공간 색인
+ * 위도/경도를 고정 크기 셀로 나누어 점을 담고, 반경 검색 시 반경을 감싸는 셀만 확인한 뒤
+ * 하버사인 거리로 걸러 가까운 순으로 정렬합니다.
+ */
+public class GeoGridIndex {
+
+    // 셀 크기 (도 단위, 위도 기준 약 1.1km)
+    private static final double CELL_SIZE_DEGREES = 0.01;
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE_LATITUDE = 111.32;
+
+    private final Map<Long, List<GeoPoint>> cells;
+    private final int size;
+
+    private GeoGridIndex(Map<Long, List<GeoPoint>> cells, int size) {
+        this.cells = cells;
+        this.size = size;
+    }
+
+    /**
+     * (ID, 위도, 경도) 목록으로 색인 생성
+     */
+    public static GeoGridIndex build(List<GeoPoint> points) {
+        Map<Long, List<GeoPoint>> cells = new HashMap<>();
+        for (GeoPoint point : points) {
+            cells.computeIfAbsent(cellKey(point.getLatitude(), point.getLongitude()), key -> new ArrayList<>())
+                    .add(point);
+        }
+
+        Map<Long, List<GeoPoint>> immutableCells = new HashMap<>(cells.size());
+        cells.forEach((key, cellPoints) -> immutableCells.put(key, List.copyOf(cellPoints)));
+        return new GeoGridIndex(Map.copyOf(immutableCells), points.size());
+    }
+
+    public static GeoGridIndex empty() {
+        return new GeoGridIndex(Map.of(), 0);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 반경 내 점을 가까운 순으로 조회
+     *
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radiusKm 반경 (km)
+     * @param limit 최대 결과 수
+     * @return 거리 오름차순 검색 결과
+     */
+    public List<GeoHit> searchWithin(double latitude, double longitude, double radiusKm, int limit) {
+        // 반경을 감싸는 경계 상자 계산
+        double latDelta = radiusKm / KM_PER_DEGREE_LATITUDE;
+        double lngDelta = radiusKm / (KM_PER_DEGREE_LATITUDE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+
+        long minLatCell = cellIndex(latitude - latDelta);
+        long maxLatCell = cellIndex(latitude + latDelta);
+        long minLngCell = cellIndex(longitude - lngDelta);
+        long maxLngCell = cellIndex(longitude + lngDelta);
+
+        List<GeoHit> hits = new ArrayList<>();
+        for (long latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (long lngCell = minLngCell; lngCell <= maxLngCell; lngCell++) {
+                List<GeoPoint> cellPoints = cells.get(cellKey(latCell, lngCell));
+                if (cellPoints == null) {
+                    continue;
+                }
+                for (GeoPoint point : cellPoints) {
+                    double distanceKm = distanceKm(latitude, longitude, point.getLatitude(), point.getLongitude());
+                    if (distanceKm <= radiusKm) {
+                        hits.add(new GeoHit(point.getId(), distanceKm));
+                    }
+                }
+            }
+        }
+
+        return hits.stream()
+                .sorted(Comparator.comparingDouble(GeoHit::getDistanceKm).thenComparing(GeoHit::getId))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 두 좌표 사이의 하버사인 거리 (km)
+     */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private static long cellIndex(double degrees) {
+        return (long) Math.floor(degrees / CELL_SIZE_DEGREES);
+    }
+
+    private static long cellKey(double latitude, double longitude) {
+        return cellKey(cellIndex(latitude), cellIndex(longitude));
+    }
+
+    // 위도 셀(-9000~9000)과 경도 셀(-18000~18000)을 하나의 long 키로 결합
+    private static long cellKey(long latCell, long lngCell) {
+        return (latCell << 32) ^ (lngCell & 0xffffffffL);
+    }
+
+    /**
+     * 색인 대상 점 (ID, 위도, 경도)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class GeoPoint {
+        private final Long id;
+        private final double latitude;
+        private final double longitude;
+    }
+
+    /**
+     * 검색 결과 (ID, 거리)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class GeoHit {
+        private final Long id;
+        private final double distanceKm;
+    }
+}
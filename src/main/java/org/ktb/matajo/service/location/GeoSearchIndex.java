@@ -0,0 +1,261 @@
+package org.ktb.matajo.service.location;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ktb.matajo.entity.LocationInfo;
+import org.ktb.matajo.entity.Post;
+import org.ktb.matajo.global.error.code.ErrorCode;
+import org.ktb.matajo.global.error.exception.BusinessException;
+import org.ktb.matajo.repository.LocationInfoRepository;
+import org.ktb.matajo.repository.PostRepository;
+import org.ktb.matajo.repository.StorageRepository;
+import org.ktb.matajo.service.location.GeoGridIndex.GeoHit;
+import org.ktb.matajo.service.location.GeoGridIndex.GeoPoint;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 위치 기반 반경 검색 색인
+ * 동(LocationInfo) 좌표와 보관소(Storage) 좌표를 격자 색인으로 유지하고,
+ * 활성 게시글은 소속 동 ID 기준으로 묶어 동 좌표 거리순으로 찾습니다.
+ * 좌표 데이터는 시작 시와 주기적으로 재구축하며, 게시글 변경은 트랜잭션 커밋 후 반영합니다.
+ * 재구축의 DB 조회와 교체 사이에 반영된 게시글 변경은 교체 후 다시 적용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GeoSearchIndex {
+
+    // 반경 검색 허용 범위
+    private static final double MAX_RADIUS_KM = 20.0;
+    private static final int MAX_SEARCH_LIMIT = 100;
+
+    private final LocationInfoRepository locationInfoRepository;
+    private final StorageRepository storageRepository;
+    private final PostRepository postRepository;
+
+    private volatile GeoGridIndex locationGrid = GeoGridIndex.empty();
+    private volatile GeoGridIndex storageGrid = GeoGridIndex.empty();
+
+    // 동 ID -> 활성 게시글 ID (내림차순 = 최신순)
+    private final Map<Long, NavigableSet<Long>> postsByLocation = new HashMap<>();
+    // 게시글 ID -> 동 ID
+    private final Map<Long, Long> locationByPost = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 재구축 중 반영된 게시글 변경 기록 (쓰기 잠금 안에서만 접근, 재구축 중이 아니면 null)
+    private List<Runnable> updatesDuringRebuild;
+
+    private volatile boolean loaded = false;
+
+    /**
+     * 전체 색인 재구축 (시작 시 및 주기적으로 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${location.geo-index.rebuild-interval-ms:600000}",
+            initialDelayString = "${location.geo-index.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        startRecordingUpdates();
+        try {
+            List<GeoPoint> locationPoints = toGeoPoints(locationInfoRepository.findAllCoordinates());
+            List<GeoPoint> storagePoints = toGeoPoints(storageRepository.findAllCoordinates());
+            List<Object[]> postLocationPairs = postRepository.findActivePostLocationPairs();
+            swap(locationPoints, storagePoints, postLocationPairs);
+        } finally {
+            stopRecordingUpdates();
+        }
+    }
+
+    private void swap(List<GeoPoint> locationPoints, List<GeoPoint> storagePoints, List<Object[]> postLocationPairs) {
+        GeoGridIndex newLocationGrid = GeoGridIndex.build(locationPoints);
+        GeoGridIndex newStorageGrid = GeoGridIndex.build(storagePoints);
+
+        lock.writeLock().lock();
+        try {
+            postsByLocation.clear();
+            locationByPost.clear();
+            for (Object[] pair : postLocationPairs) {
+                addPost((Long) pair[0], (Long) pair[1]);
+            }
+            // DB 조회 이후 반영된 게시글 변경을 새 색인에 다시 적용
+            updatesDuringRebuild.forEach(Runnable::run);
+            locationGrid = newLocationGrid;
+            storageGrid = newStorageGrid;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("위치 검색 색인 재구축 완료: 동 수={}, 보관소 수={}, 활성 게시글 수={}",
+                newLocationGrid.size(), newStorageGrid.size(), postLocationPairs.size());
+    }
+
+    /**
+     * 반경 검색 조건 검증 (좌표 범위, 최대 반경, 최대 결과 수)
+     */
+    public void validateSearch(double latitude, double longitude, double radiusKm, int limit) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180
+                || !(radiusKm > 0) || radiusKm > MAX_RADIUS_KM
+                || limit <= 0 || limit > MAX_SEARCH_LIMIT) {
+            log.error("유효하지 않은 위치 검색 조건: lat={}, lng={}, radiusKm={}, limit={}",
+                    latitude, longitude, radiusKm, limit);
+            throw new BusinessException(ErrorCode.INVALID_GEO_SEARCH);
+        }
+    }
+
+    /**
+     * 검색 결과 거리 표시용 반올림 (소수점 둘째 자리)
+     */
+    public static double roundDistance(double distanceKm) {
+        return Math.round(distanceKm * 100) / 100.0;
+    }
+
+    /**
+     * 반경 내 활성 게시글을 가까운 순으로 조회 (같은 거리에서는 최신순)
+     * 게시글 좌표는 소속 동의 좌표를 사용합니다.
+     */
+    public List<GeoHit> findNearbyPosts(double latitude, double longitude, double radiusKm, int limit) {
+        ensureLoaded();
+
+        List<GeoHit> locationHits = locationGrid.searchWithin(latitude, longitude, radiusKm, Integer.MAX_VALUE);
+
+        List<GeoHit> postHits = new ArrayList<>(limit);
+        lock.readLock().lock();
+        try {
+            for (GeoHit locationHit : locationHits) {
+                NavigableSet<Long> postIds = postsByLocation.get(locationHit.getId());
+                if (postIds == null) {
+                    continue;
+                }
+                for (Long postId : postIds) {
+                    if (postHits.size() >= limit) {
+                        return postHits;
+                    }
+                    postHits.add(new GeoHit(postId, locationHit.getDistanceKm()));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return postHits;
+    }
+
+    /**
+     * 반경 내 보관소를 가까운 순으로 조회
+     */
+    public List<GeoHit> findNearbyStorages(double latitude, double longitude, double radiusKm, int limit) {
+        ensureLoaded();
+        return storageGrid.searchWithin(latitude, longitude, radiusKm, limit);
+    }
+
+    /**
+     * 게시글 변경 사항을 트랜잭션 커밋 후 색인에 반영
+     */
+    public void indexPostAfterCommit(Post post) {
+        Long postId = post.getId();
+        LocationInfo locationInfo = post.getAddress() != null ? post.getAddress().getLocationInfo() : null;
+        Long locationInfoId = locationInfo != null ? locationInfo.getId() : null;
+        boolean active = !post.isDeleted() && !post.isHiddenStatus();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    updatePost(postId, active ? locationInfoId : null);
+                }
+            });
+        } else {
+            updatePost(postId, active ? locationInfoId : null);
+        }
+    }
+
+    private void updatePost(Long postId, Long locationInfoId) {
+        lock.writeLock().lock();
+        try {
+            applyPost(postId, locationInfoId);
+            if (updatesDuringRebuild != null) {
+                updatesDuringRebuild.add(() -> applyPost(postId, locationInfoId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void applyPost(Long postId, Long locationInfoId) {
+        Long previousLocationId = locationByPost.remove(postId);
+        if (previousLocationId != null) {
+            NavigableSet<Long> postIds = postsByLocation.get(previousLocationId);
+            if (postIds != null) {
+                postIds.remove(postId);
+                if (postIds.isEmpty()) {
+                    postsByLocation.remove(previousLocationId);
+                }
+            }
+        }
+        if (locationInfoId != null) {
+            addPost(postId, locationInfoId);
+        }
+    }
+
+    private void startRecordingUpdates() {
+        lock.writeLock().lock();
+        try {
+            updatesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void stopRecordingUpdates() {
+        lock.writeLock().lock();
+        try {
+            updatesDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void addPost(Long postId, Long locationInfoId) {
+        postsByLocation.computeIfAbsent(locationInfoId, id -> new TreeSet<Long>().descendingSet()).add(postId);
+        locationByPost.put(postId, locationInfoId);
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    // (ID, 위도, 경도) 행을 색인용 점으로 변환
+    private List<GeoPoint> toGeoPoints(List<Object[]> rows) {
+        List<GeoPoint> points = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            points.add(new GeoPoint((Long) row[0], toDouble(row[1]), toDouble(row[2])));
+        }
+        return points;
+    }
+
+    private double toDouble(Object value) {
+        return value instanceof BigDecimal decimal ? decimal.doubleValue() : ((Number) value).doubleValue();
+    }
+}
@@ -0,0 +1,234 @@
+package org.ktb.matajo.service.location;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ktb.matajo.repository.LocationInfoRepository;
+import org.ktb.matajo.util.HangulUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 동 이름 자동완성 메모리 색인
+ * LocationInfo의 표시 이름(displayName)을 이름순으로 정렬해 보관하고, 자모 분해 문자열과 초성 문자열에 대해
+ * 정렬 배열 기반 접두사 검색과 bigram 역색인 기반 중간 일치 검색을 제공합니다.
+ * 결과 순서는 기존 SQL과 같이 접두사 일치를 먼저, 그 다음 중간 일치를 각각 표시 이름순으로 반환합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocationAutocompleteIndex {
+
+    private final LocationInfoRepository locationInfoRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 전체 색인 재구축 (시작 시 및 주기적으로 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${location.autocomplete.rebuild-interval-ms:3600000}",
+            initialDelayString = "${location.autocomplete.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+
+        // (표시 이름, 포맷 주소)를 표시 이름순으로 정렬
+        List<Object[]> rows = new ArrayList<>(locationInfoRepository.findAllDisplayNames());
+        rows.sort(Comparator.comparing(row -> (String) row[0]));
+
+        int size = rows.size();
+        String[] formattedAddresses = new String[size];
+        String[] jamoKeys = new String[size];
+        String[] choseongKeys = new String[size];
+        for (int i = 0; i < size; i++) {
+            String displayName = (String) rows.get(i)[0];
+            formattedAddresses[i] = (String) rows.get(i)[1];
+            jamoKeys[i] = HangulUtils.decompose(displayName);
+            choseongKeys[i] = HangulUtils.extractChoseong(displayName);
+        }
+
+        snapshot = new Snapshot(formattedAddresses, new SubstringIndex(jamoKeys), new SubstringIndex(choseongKeys));
+
+        log.info("동 이름 자동완성 색인 재구축 완료: 항목 수={}, 소요 시간={}ms",
+                size, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 검색어로 포맷 주소 목록 조회 (접두사 일치 우선, 표시 이름순)
+     * 자음만 입력하면 초성 검색, 그 외에는 자모 분해 후 검색하여 조합 중인 입력도 일치시킵니다.
+     */
+    public List<String> search(String searchTerm, int limit) {
+        Snapshot current = current();
+
+        String term = searchTerm.trim();
+        if (term.isEmpty()) {
+            return List.of();
+        }
+
+        int[] matches = HangulUtils.isChoseongOnly(term)
+                ? current.choseongIndex().search(term, limit)
+                : current.jamoIndex().search(HangulUtils.decompose(term), limit);
+
+        List<String> results = new ArrayList<>(matches.length);
+        for (int entry : matches) {
+            results.add(current.formattedAddresses()[entry]);
+        }
+        return results;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    rebuild();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private record Snapshot(String[] formattedAddresses, SubstringIndex jamoIndex, SubstringIndex choseongIndex) {
+    }
+
+    /**
+     * 문자열 키 배열에 대한 부분 문자열 색인
+     * 키의 배열 위치(항목 번호)가 곧 표시 이름순이므로, 결과를 항목 번호순으로 정렬하면 이름순이 됩니다.
+     */
+    private static final class SubstringIndex {
+
+        private final String[] keys;
+        // 키 사전순으로 정렬된 항목 번호 (접두사 범위 검색용)
+        private final int[] sortedEntries;
+        // 1글자 / 2글자 조각 -> 해당 조각을 포함하는 항목 번호 (오름차순)
+        private final Map<String, int[]> postings;
+
+        private SubstringIndex(String[] keys) {
+            this.keys = keys;
+            this.sortedEntries = IntStream.range(0, keys.length)
+                    .boxed()
+                    .sorted(Comparator.comparing(entry -> keys[entry]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+
+            Map<String, List<Integer>> grams = new HashMap<>();
+            for (int entry = 0; entry < keys.length; entry++) {
+                String key = keys[entry];
+                for (int i = 0; i < key.length(); i++) {
+                    addPosting(grams, key.substring(i, i + 1), entry);
+                    if (i + 1 < key.length()) {
+                        addPosting(grams, key.substring(i, i + 2), entry);
+                    }
+                }
+            }
+
+            Map<String, int[]> built = new HashMap<>(grams.size());
+            grams.forEach((gram, entries) -> built.put(gram, entries.stream().mapToInt(Integer::intValue).toArray()));
+            this.postings = built;
+        }
+
+        // 같은 항목이 연속으로 들어오므로 마지막 값만 비교해 중복 제거
+        private static void addPosting(Map<String, List<Integer>> grams, String gram, int entry) {
+            List<Integer> entries = grams.computeIfAbsent(gram, g -> new ArrayList<>());
+            if (entries.isEmpty() || entries.get(entries.size() - 1) != entry) {
+                entries.add(entry);
+            }
+        }
+
+        /**
+         * 접두사 일치 항목을 먼저, 부족하면 중간 일치 항목을 채워 항목 번호순으로 반환
+         */
+        int[] search(String term, int limit) {
+            int[] prefixMatches = findPrefixMatches(term);
+            if (prefixMatches.length >= limit) {
+                return Arrays.copyOf(prefixMatches, limit);
+            }
+
+            int[] result = Arrays.copyOf(prefixMatches, limit);
+            int count = prefixMatches.length;
+            for (int entry : findCandidates(term)) {
+                if (count >= limit) {
+                    break;
+                }
+                String key = keys[entry];
+                // 접두사 일치는 이미 포함했으므로 중간 일치만 추가
+                if (!key.startsWith(term) && key.contains(term)) {
+                    result[count++] = entry;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+
+        // 정렬 배열에서 이진 탐색으로 접두사 범위를 찾고 항목 번호순으로 정렬
+        private int[] findPrefixMatches(String term) {
+            int low = 0;
+            int high = sortedEntries.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[sortedEntries[mid]].compareTo(term) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            int end = low;
+            while (end < sortedEntries.length && keys[sortedEntries[end]].startsWith(term)) {
+                end++;
+            }
+
+            int[] matches = Arrays.copyOfRange(sortedEntries, low, end);
+            Arrays.sort(matches);
+            return matches;
+        }
+
+        // 검색어의 모든 조각을 포함하는 후보 항목 (posting 교집합)
+        private int[] findCandidates(String term) {
+            if (term.length() == 1) {
+                return postings.getOrDefault(term, new int[0]);
+            }
+
+            int[] candidates = null;
+            for (int i = 0; i + 1 < term.length(); i++) {
+                int[] gramPostings = postings.get(term.substring(i, i + 2));
+                if (gramPostings == null) {
+                    return new int[0];
+                }
+                candidates = candidates == null ? gramPostings : intersect(candidates, gramPostings);
+                if (candidates.length == 0) {
+                    break;
+                }
+            }
+            return candidates;
+        }
+
+        private static int[] intersect(int[] left, int[] right) {
+            int[] result = new int[Math.min(left.length, right.length)];
+            int i = 0;
+            int j = 0;
+            int count = 0;
+            while (i < left.length && j < right.length) {
+                if (left[i] < right[j]) {
+                    i++;
+                } else if (left[i] > right[j]) {
+                    j++;
+                } else {
+                    result[count++] = left[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+    }
+}
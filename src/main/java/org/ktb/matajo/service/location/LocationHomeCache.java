@@ -0,0 +1,80 @@
+package org.ktb.matajo.service.location;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.ktb.matajo.dto.location.LocationHomeResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 동네 홈 화면 스냅샷 캐시 (locationInfoId 단위)
+ * 게시글·거래 변경 시 해당 동이 속한 시군구의 스냅샷만 커밋 후 무효화하고, 다음 요청에서 다시 만듭니다.
+ * 다른 노드의 변경은 TTL로 최신화되며, 히트율과 로딩 시간은 cache.* 메트릭(cache=locationHome)으로 수집됩니다.
+ */
+@Slf4j
+@Component
+public class LocationHomeCache {
+
+    private static final String CACHE_NAME = "locationHome";
+
+    private final Cache<Long, LocationHomeResponseDto> cache;
+    private final LocationLookupTable locationLookupTable;
+
+    public LocationHomeCache(@Value("${location.home-cache.maximum-size:2000}") long maximumSize,
+                             @Value("${location.home-cache.ttl-seconds:300}") long ttlSeconds,
+                             LocationLookupTable locationLookupTable,
+                             MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.locationLookupTable = locationLookupTable;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 스냅샷 조회, 없으면 loader로 생성하여 저장 (같은 동의 동시 요청은 한 번만 생성)
+     */
+    public LocationHomeResponseDto get(Long locationInfoId, Function<Long, LocationHomeResponseDto> loader) {
+        return cache.get(locationInfoId, loader);
+    }
+
+    /**
+     * 동 단위 변경을 커밋 후 반영 - 같은 시군구의 스냅샷 무효화
+     * 동네 게시글 목록이 시군구 단위이므로 같은 시군구의 모든 동 스냅샷이 대상입니다.
+     */
+    public void invalidateAfterCommit(Long locationInfoId) {
+        if (locationInfoId == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateDistrict(locationInfoId);
+                }
+            });
+        } else {
+            invalidateDistrict(locationInfoId);
+        }
+    }
+
+    private void invalidateDistrict(Long locationInfoId) {
+        List<Long> districtLocationIds = locationLookupTable.findIdsInSameDistrict(locationInfoId);
+        cache.invalidate(locationInfoId);
+        cache.invalidateAll(districtLocationIds);
+        log.debug("동네 홈 스냅샷 무효화: locationInfoId={}, 대상 동 수={}", locationInfoId, districtLocationIds.size());
+    }
+}
@@ -0,0 +1,13 @@
+package org.ktb.matajo.service.location;
+
+import org.ktb.matajo.dto.location.LocationHomeResponseDto;
+
+public interface LocationHomeService {
+
+    /**
+     * 동네 홈 화면 통합 정보 조회 (동네 게시글, 지역 특가, 최근 거래, 보관소)
+     * @param locationInfoId 위치 정보 ID
+     * @return 동네 홈 화면 스냅샷
+     */
+    LocationHomeResponseDto getLocationHome(Long locationInfoId);
+}
@@ -0,0 +1,51 @@
+package org.ktb.matajo.service.location;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ktb.matajo.dto.location.LocationHomeResponseDto;
+import org.ktb.matajo.global.error.code.ErrorCode;
+import org.ktb.matajo.global.error.exception.BusinessException;
+import org.ktb.matajo.service.post.PostService;
+import org.ktb.matajo.service.storage.StorageService;
+import org.ktb.matajo.service.trade.TradeInfoService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LocationHomeServiceImpl implements LocationHomeService {
+
+    private final LocationHomeCache locationHomeCache;
+    private final PostService postService;
+    private final TradeInfoService tradeInfoService;
+    private final StorageService storageService;
+
+    @Override
+    public LocationHomeResponseDto getLocationHome(Long locationInfoId) {
+        if (locationInfoId == null) {
+            log.error("위치 정보 ID가 null입니다");
+            throw new BusinessException(ErrorCode.INVALID_LOCATION_ID);
+        }
+
+        return locationHomeCache.get(locationInfoId, this::buildSnapshot);
+    }
+
+    /**
+     * 동네 홈 스냅샷 생성 (캐시 미스 시) - 공유되는 스냅샷이므로 불변 목록으로 보관
+     */
+    private LocationHomeResponseDto buildSnapshot(Long locationInfoId) {
+        log.info("동네 홈 스냅샷 생성: locationInfoId={}", locationInfoId);
+
+        return LocationHomeResponseDto.builder()
+                .locationInfoId(locationInfoId)
+                .posts(List.copyOf(postService.getPostsIdsByLocationInfoId(locationInfoId)))
+                .deals(List.copyOf(postService.getTopDiscountedPosts(locationInfoId)))
+                .recentTrades(List.copyOf(tradeInfoService.getCurrentTrades(locationInfoId)))
+                .storages(List.copyOf(storageService.getStoragesByLocation(locationInfoId)))
+                .build();
+    }
+}
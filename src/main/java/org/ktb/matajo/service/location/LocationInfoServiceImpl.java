@@ -6,8 +6,6 @@ import org.ktb.matajo.entity.LocationInfo;
 import org.ktb.matajo.repository.LocationInfoRepository;
 import org.ktb.matajo.dto.location.LocationIdResponseDto;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +20,11 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class LocationInfoServiceImpl implements LocationInfoService{
   private final LocationInfoRepository locationInfoRepository;
+  private final LocationAutocompleteIndex locationAutocompleteIndex;
+  // 동/시군구 매칭은 메모리 조회 테이블 사용 (DB 조회 없음)
+  private final LocationLookupTable locationLookupTable;
+
+  private static final int AUTOCOMPLETE_LIMIT = 20;
 
   @Override
   //@Cacheable(value = "locationCache", key = "#dongName + '_' + #guName")
@@ -30,7 +33,7 @@ public class LocationInfoServiceImpl implements LocationInfoService{
 
     // 1. 동 이름 기반 정확한 매칭 검색
     if (dongName != null && !dongName.isBlank()) {
-      Optional<LocationInfo> exactMatch = locationInfoRepository.findByOriginalName(dongName);
+      Optional<LocationInfo> exactMatch = locationLookupTable.findByOriginalName(dongName);
       if (exactMatch.isPresent()) {
         log.debug("동 이름 정확 매칭 결과 발견: {}", dongName);
         return Collections.singletonList(exactMatch.get());
@@ -50,7 +53,7 @@ public class LocationInfoServiceImpl implements LocationInfoService{
 
     // 2. 구 이름 기반 검색
     if (guName != null && !guName.isBlank()) {
-      Optional<LocationInfo> guMatch = locationInfoRepository.findFirstByCityDistrictContaining(guName);
+      Optional<LocationInfo> guMatch = locationLookupTable.findFirstByCityDistrictContaining(guName);
       if (guMatch.isPresent()) {
         log.debug("구 이름 매칭 결과 발견: {}", guName);
         return Collections.singletonList(guMatch.get());
@@ -70,13 +73,8 @@ public class LocationInfoServiceImpl implements LocationInfoService{
       return Collections.emptyList();
     }
 
-    // 최대 20개 결과로 제한
-    Pageable limit = PageRequest.of(0, 20);
-
-    return locationInfoRepository.searchByDisplayNameOrderByPriority(searchTerm, limit)
-        .stream()
-        .map(LocationInfo::getFormattedAddress)
-        .collect(Collectors.toList());
+    // 메모리 자동완성 색인에서 조회 (접두사 일치 우선, 최대 20개 결과로 제한)
+    return locationAutocompleteIndex.search(searchTerm, AUTOCOMPLETE_LIMIT);
   }
 
   @Override
@@ -0,0 +1,125 @@
+package org.ktb.matajo.service.location;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ktb.matajo.entity.LocationInfo;
+import org.ktb.matajo.repository.LocationInfoRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 위치 정보 조회 테이블 (메모리)
+ * LocationInfo는 사실상 고정된 기준 데이터이므로 시작 시 전체를 읽어
+ * 동 이름 -> 위치 정보, 시군구 -> 위치 ID 목록, 위치 ID -> 시군구 불변 맵을 만들어 둡니다.
+ * 게시글 작성·수정의 위치 매칭과 동네 게시글 조회가 DB를 거치지 않으며, refresh()로 필요 시 다시 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocationLookupTable {
+
+    private final LocationInfoRepository locationInfoRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 조회 테이블 갱신 (시작 시, 주기적으로, 또는 필요 시 직접 호출)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${location.lookup.refresh-interval-ms:3600000}",
+            initialDelayString = "${location.lookup.refresh-interval-ms:3600000}")
+    public void refresh() {
+        List<LocationInfo> locations = new ArrayList<>(locationInfoRepository.findAll());
+        // 기존 쿼리(findFirst...)와 같이 ID가 작은 항목이 우선하도록 ID순 정렬
+        locations.sort(Comparator.comparing(LocationInfo::getId));
+
+        Map<String, LocationInfo> byOriginalName = new HashMap<>();
+        Map<Long, String> districtById = new HashMap<>();
+        // 시군구 -> (ID순) 위치 목록, 시군구 등장 순서도 최소 ID순으로 유지
+        Map<String, List<LocationInfo>> locationsByDistrict = new LinkedHashMap<>();
+
+        for (LocationInfo location : locations) {
+            if (location.getOriginalName() != null) {
+                byOriginalName.putIfAbsent(location.getOriginalName(), location);
+            }
+            if (location.getCityDistrict() != null) {
+                districtById.put(location.getId(), location.getCityDistrict());
+                locationsByDistrict.computeIfAbsent(location.getCityDistrict(), district -> new ArrayList<>())
+                        .add(location);
+            }
+        }
+
+        Map<String, List<Long>> idsByDistrict = new HashMap<>();
+        List<LocationInfo> firstLocationByDistrict = new ArrayList<>(locationsByDistrict.size());
+        locationsByDistrict.forEach((district, districtLocations) -> {
+            idsByDistrict.put(district, districtLocations.stream().map(LocationInfo::getId).toList());
+            firstLocationByDistrict.add(districtLocations.get(0));
+        });
+
+        snapshot = new Snapshot(Map.copyOf(byOriginalName), Map.copyOf(districtById),
+                Map.copyOf(idsByDistrict), List.copyOf(firstLocationByDistrict));
+
+        log.info("위치 정보 조회 테이블 갱신 완료: 위치 수={}, 시군구 수={}", locations.size(), idsByDistrict.size());
+    }
+
+    /**
+     * 동 이름으로 위치 정보 조회 (정확히 일치)
+     */
+    public Optional<LocationInfo> findByOriginalName(String originalName) {
+        return Optional.ofNullable(current().byOriginalName().get(originalName));
+    }
+
+    /**
+     * 시군구 이름에 검색어가 포함된 첫 번째 위치 정보 조회
+     * 시군구 수만큼만 비교하므로 전체 위치를 훑지 않습니다.
+     */
+    public Optional<LocationInfo> findFirstByCityDistrictContaining(String districtName) {
+        for (LocationInfo location : current().firstLocationByDistrict()) {
+            if (location.getCityDistrict().contains(districtName)) {
+                return Optional.of(location);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 같은 시군구에 속한 위치 ID 목록 조회 (자기 자신 포함)
+     */
+    public List<Long> findIdsInSameDistrict(Long locationInfoId) {
+        Snapshot current = current();
+        String district = current.districtById().get(locationInfoId);
+        if (district == null) {
+            return List.of();
+        }
+        return current.idsByDistrict().getOrDefault(district, List.of());
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private record Snapshot(Map<String, LocationInfo> byOriginalName,
+                            Map<Long, String> districtById,
+                            Map<String, List<Long>> idsByDistrict,
+                            List<LocationInfo> firstLocationByDistrict) {
+    }
+}
@@ -0,0 +1,244 @@
+package org.ktb.matajo.service.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 푸시 알림 비동기 일괄 전송기
+ * 메시지 저장 트랜잭션과 분리된 고정 크기 큐에 알림을 적재하고, 워커 스레드가 짧게 모아서
+ * 같은 수신자·채팅방의 연속 메시지를 하나로 합친 뒤 FCM sendEach로 일괄 전송합니다.
+ * 큐가 가득 차면 채팅 전송을 막지 않도록 알림을 버리고 지표로 남깁니다.
+ * 수신자·채팅방별 연속 알림 수가 임계치를 넘으면 다이제스트 알림으로 전환합니다.
+ */
+@Slf4j
+@Component
+public class ChatPushDispatcher {
+
+    // FCM sendEach 한 번에 보낼 수 있는 최대 메시지 수
+    private static final int FCM_MAX_BATCH_SIZE = 500;
+
+    private final FirebaseNotificationService firebaseNotificationService;
+    private final BlockingQueue<ChatPushRequest> queue;
+    private final ExecutorService workers;
+    private final int workerCount;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final int digestThreshold;
+    private final long digestWindowMillis;
+
+    // 수신자·채팅방별 최근 연속 알림 누적 (다이제스트 판단용)
+    private final ConcurrentHashMap<String, BurstWindow> bursts = new ConcurrentHashMap<>();
+
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter coalescedCounter;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter suppressedCounter;
+    private final Counter digestCounter;
+
+    private volatile boolean running = true;
+
+    public ChatPushDispatcher(FirebaseNotificationService firebaseNotificationService,
+                              MeterRegistry meterRegistry,
+                              @Value("${notification.fcm.queue-capacity:10000}") int queueCapacity,
+                              @Value("${notification.fcm.workers:2}") int workerCount,
+                              @Value("${notification.fcm.batch-size:100}") int batchSize,
+                              @Value("${notification.fcm.linger-ms:50}") long lingerMillis,
+                              @Value("${notification.fcm.digest-threshold:3}") int digestThreshold,
+                              @Value("${notification.fcm.digest-window-ms:60000}") long digestWindowMillis) {
+        this.firebaseNotificationService = firebaseNotificationService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workerCount = workerCount;
+        this.batchSize = Math.min(batchSize, FCM_MAX_BATCH_SIZE);
+        this.lingerMillis = lingerMillis;
+        this.digestThreshold = digestThreshold;
+        this.digestWindowMillis = digestWindowMillis;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "fcm-push-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("fcm.push.queue.size", queue, BlockingQueue::size)
+                .description("FCM 전송 대기 중인 알림 수")
+                .register(meterRegistry);
+        this.enqueuedCounter = meterRegistry.counter("fcm.push.enqueued");
+        this.droppedCounter = meterRegistry.counter("fcm.push.dropped");
+        this.coalescedCounter = meterRegistry.counter("fcm.push.coalesced");
+        this.sentCounter = meterRegistry.counter("fcm.push.sent", "result", "success");
+        this.failedCounter = meterRegistry.counter("fcm.push.sent", "result", "failure");
+        this.suppressedCounter = meterRegistry.counter("fcm.push.suppressed");
+        this.digestCounter = meterRegistry.counter("fcm.push.digest");
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < workerCount; i++) {
+            workers.submit(this::runWorker);
+        }
+        log.info("FCM 전송 워커 시작: workers={}, batchSize={}, lingerMs={}", workerCount, batchSize, lingerMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        workers.shutdownNow();
+        try {
+            if (!workers.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("FCM 전송 워커가 제시간에 종료되지 않았습니다. 미전송 알림 수: {}", queue.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 알림 적재 (블로킹하지 않음)
+     *
+     * @return 적재 성공 여부 (큐가 가득 찬 경우 false)
+     */
+    public boolean enqueue(ChatPushRequest request) {
+        if (queue.offer(request)) {
+            enqueuedCounter.increment();
+            return true;
+        }
+
+        droppedCounter.increment();
+        log.warn("FCM 전송 큐가 가득 차 알림을 버립니다: receiverId={}, roomId={}",
+                request.getReceiverId(), request.getMessage().getRoomId());
+        return false;
+    }
+
+    /**
+     * 수신자가 채팅방을 보고 있어 알림을 생략한 경우 호출
+     * 연속 알림 누적을 초기화하여 다음 알림은 다시 개별 메시지로 보냅니다.
+     */
+    public void suppress(Long receiverId, Long roomId) {
+        suppressedCounter.increment();
+        bursts.remove(burstKey(receiverId, roomId));
+    }
+
+    /**
+     * 누적 창이 지난 연속 알림 기록 정리
+     */
+    @Scheduled(fixedDelayString = "${notification.fcm.digest-window-ms:60000}")
+    public void evictExpiredBursts() {
+        long now = System.currentTimeMillis();
+        bursts.values().removeIf(window -> now - window.lastSentAt > digestWindowMillis);
+    }
+
+    private void runWorker() {
+        List<ChatPushRequest> batch = new ArrayList<>(batchSize);
+
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                drainWithinLinger(batch);
+                dispatch(coalesce(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("FCM 일괄 전송 중 오류 발생: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 첫 알림 이후 linger 시간 동안 도착한 알림을 배치 크기까지 모음
+    private void drainWithinLinger(List<ChatPushRequest> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+
+            ChatPushRequest next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    // 같은 수신자·채팅방의 연속 메시지는 마지막 메시지 하나로 합침
+    private List<ChatPushRequest> coalesce(List<ChatPushRequest> batch) {
+        Map<String, ChatPushRequest> latestByReceiverRoom = new LinkedHashMap<>();
+
+        for (ChatPushRequest request : batch) {
+            String key = burstKey(request.getReceiverId(), request.getMessage().getRoomId());
+            ChatPushRequest previous = latestByReceiverRoom.remove(key);
+            latestByReceiverRoom.put(key, previous == null ? request : request.absorb(previous));
+        }
+
+        coalescedCounter.increment(batch.size() - latestByReceiverRoom.size());
+        return latestByReceiverRoom.values().stream()
+                .map(this::applyBurst)
+                .collect(Collectors.toList());
+    }
+
+    // 누적 창 안의 이전 알림 수를 더하고, 임계치 이상이면 다이제스트로 전환
+    // (같은 채팅방 알림은 collapse key로 대체되므로 최신 알림이 누적 개수를 보여줌)
+    private ChatPushRequest applyBurst(ChatPushRequest request) {
+        long now = System.currentTimeMillis();
+        BurstWindow window = bursts.compute(
+                burstKey(request.getReceiverId(), request.getMessage().getRoomId()),
+                (key, current) -> current == null || now - current.lastSentAt > digestWindowMillis
+                        ? new BurstWindow(request.getMessageCount(), now)
+                        : new BurstWindow(current.count + request.getMessageCount(), now));
+
+        boolean digest = window.count >= digestThreshold;
+        if (digest) {
+            digestCounter.increment();
+        }
+        return request.withBurst(window.count, digest);
+    }
+
+    private String burstKey(Long receiverId, Long roomId) {
+        return receiverId + ":" + roomId;
+    }
+
+    private void dispatch(List<ChatPushRequest> requests) {
+        int successCount = firebaseNotificationService.sendMessageNotifications(requests);
+
+        sentCounter.increment(successCount);
+        failedCounter.increment(requests.size() - successCount);
+        log.debug("FCM 일괄 전송 완료: requested={}, success={}", requests.size(), successCount);
+    }
+
+    // 수신자·채팅방별 연속 알림 누적 상태
+    private static class BurstWindow {
+        private final int count;
+        private final long lastSentAt;
+
+        private BurstWindow(int count, long lastSentAt) {
+            this.count = count;
+            this.lastSentAt = lastSentAt;
+        }
+    }
+}
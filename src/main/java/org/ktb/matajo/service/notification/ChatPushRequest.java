@@ -0,0 +1,44 @@
+package org.ktb.matajo.service.notification;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.ktb.matajo.dto.chat.ChatMessageResponseDto;
+
+/**
+ * 전송 큐에 적재되는 채팅 푸시 알림 요청
+ * 같은 수신자·채팅방의 연속 메시지는 마지막 메시지 하나로 합쳐지며, 합쳐진 개수를 함께 보관합니다.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ChatPushRequest {
+    private final Long receiverId;
+    private final String fcmToken;
+    private final String senderNickname;
+    private final ChatMessageResponseDto message;
+
+    // 이 알림으로 합쳐진 메시지 수
+    @Builder.Default
+    private final int messageCount = 1;
+
+    // 다이제스트 알림 여부 ("X님의 새 메시지 N개")
+    private final boolean digest;
+
+    /**
+     * 이전 요청을 흡수한 새 요청 생성 (내용은 최신 메시지 기준)
+     */
+    public ChatPushRequest absorb(ChatPushRequest previous) {
+        return toBuilder()
+                .messageCount(previous.getMessageCount() + messageCount)
+                .build();
+    }
+
+    /**
+     * 연속 알림 누적 결과 반영
+     */
+    public ChatPushRequest withBurst(int burstCount, boolean digest) {
+        return toBuilder()
+                .messageCount(burstCount)
+                .digest(digest)
+                .build();
+    }
+}
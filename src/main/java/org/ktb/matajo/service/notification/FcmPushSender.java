@@ -0,0 +1,22 @@
+package org.ktb.matajo.service.notification;
+
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+
+import java.util.List;
+
+/**
+ * FCM 메시지 전송 추상화
+ * 실제 Firebase 전송과 로컬/테스트용 스텁 전송을 설정으로 전환합니다. (firebase.enabled)
+ */
+public interface FcmPushSender {
+
+    /**
+     * 메시지 목록 일괄 전송
+     *
+     * @param messages 전송할 FCM 메시지 목록
+     * @return 메시지 순서대로의 전송 실패 예외 목록 (성공한 메시지는 null)
+     * @throws FirebaseMessagingException 일괄 요청 자체가 실패한 경우
+     */
+    List<FirebaseMessagingException> sendEach(List<Message> messages) throws FirebaseMessagingException;
+}
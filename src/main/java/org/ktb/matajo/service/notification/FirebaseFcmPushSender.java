@@ -0,0 +1,34 @@
+package org.ktb.matajo.service.notification;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.SendResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Firebase Admin SDK 기반 FCM 전송 구현
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "firebase.enabled", havingValue = "true", matchIfMissing = true)
+public class FirebaseFcmPushSender implements FcmPushSender {
+
+    private final FirebaseMessaging firebaseMessaging;
+
+    @Override
+    public List<FirebaseMessagingException> sendEach(List<Message> messages) throws FirebaseMessagingException {
+        // sendEach: 한 번의 호출로 최대 500개 메시지를 전송하고 메시지별 결과를 반환
+        BatchResponse response = firebaseMessaging.sendEach(messages);
+
+        return response.getResponses().stream()
+                .map(SendResponse::getException)
+                .collect(Collectors.toList());
+    }
+}
@@ -1,6 +1,6 @@
 package org.ktb.matajo.service.notification;
 
-import org.ktb.matajo.dto.chat.ChatMessageResponseDto;
+import java.util.List;
 
 /**
  * Firebase Cloud Messaging(FCM) 알림 서비스
@@ -8,13 +8,11 @@ import org.ktb.matajo.dto.chat.ChatMessageResponseDto;
 public interface FirebaseNotificationService {
 
     /**
-     * 채팅 메시지에 대한 푸시 알림 전송
-     * 
-     * @param senderNickname 발신자 닉네임
-     * @param messageDto 채팅 메시지 응답 DTO
-     * @param fcmToken 수신자의 FCM 토큰
-     * @param receiverId 수신자 ID (토큰 오류 처리를 위해 필요)
+     * 채팅 메시지 푸시 알림 일괄 전송
+     *
+     * @param requests 수신자별 채팅 푸시 알림 요청 목록 (최대 500개)
+     * @return 전송에 성공한 알림 수
      */
-    void sendMessageNotification(String senderNickname, ChatMessageResponseDto messageDto, String fcmToken, Long receiverId);
+    int sendMessageNotifications(List<ChatPushRequest> requests);
 
-}
\ No newline at end of file
+}
@@ -5,14 +5,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.ktb.matajo.dto.chat.ChatMessageResponseDto;
 import org.ktb.matajo.entity.MessageType;
-import org.ktb.matajo.global.error.code.ErrorCode;
-import org.ktb.matajo.global.error.exception.BusinessException;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 
 /**
  * Firebase Cloud Messaging(FCM)을 통한 푸시 알림 서비스 구현
@@ -22,108 +20,97 @@ import java.util.concurrent.ExecutionException;
 @RequiredArgsConstructor
 public class FirebaseNotificationServiceImpl implements FirebaseNotificationService {
 
-    // Firebase 메시징 서비스 주입
-    private final FirebaseMessaging firebaseMessaging;
-    
+    // 채팅방 단위 알림 collapse key 접두사
+    private static final String CHAT_ROOM_COLLAPSE_KEY_PREFIX = "chat-room-";
+
+    // FCM 전송기 (firebase.enabled 설정에 따라 실제 Firebase 또는 스텁)
+    private final FcmPushSender fcmPushSender;
+
     // FCM 토큰 관리 서비스 추가
     private final FcmTokenService fcmTokenService;
 
     /**
-     * 채팅 메시지에 대한 푸시 알림 전송
+     * 채팅 메시지 푸시 알림 일괄 전송
+     * 메시지별 실패 중 토큰 오류는 토큰을 정리하고, 나머지는 로그만 남깁니다.
      *
-     * @param senderNickname 발신자 닉네임
-     * @param messageDto 채팅 메시지 응답 DTO
-     * @param fcmToken 수신자의 FCM 토큰
-     * @param receiverId 수신자 ID
+     * @param requests 수신자별 채팅 푸시 알림 요청 목록
+     * @return 전송에 성공한 알림 수
      */
     @Override
-    public void sendMessageNotification(String senderNickname, ChatMessageResponseDto messageDto, String fcmToken, Long receiverId) {
-        // 입력 유효성 검사
-        validateNotificationInput(senderNickname, messageDto, fcmToken);
-
-        try {
-            // 메시지 유형에 따른 알림 내용 포맷팅
-            String notificationContent = formatNotificationContent(messageDto);
-
-            // Firebase 알림 생성
-            Notification notification = Notification.builder()
-                    .setTitle(senderNickname)
-                    .setBody(notificationContent)
-                    .build();
-
-            // 알림과 함께 전달할 추가 데이터 생성
-            Map<String, String> dataPayload = createDataPayload(messageDto, senderNickname);
-
-            // Firebase 메시지 구성
-            Message fcmMessage = Message.builder()
-                    .setToken(fcmToken)
-                    .setNotification(notification)
-                    .putAllData(dataPayload)
-                    .build();
-
-            // 알림 비동기 전송
-            String response = sendFcmMessage(fcmMessage, receiverId);
-            log.info("FCM 알림 전송 성공: {}", response);
-
-        } catch (BusinessException e) {
-            log.error("알림 전송 중 비즈니스 예외 발생: {}", e.getMessage(), e);
-            throw e;
-        } catch (Exception e) {
-            log.error("FCM 알림 전송 중 예상치 못한 오류 발생: {}", e.getMessage(), e);
-            throw new BusinessException(ErrorCode.FAILED_TO_SEND_NOTIFICATION);
+    public int sendMessageNotifications(List<ChatPushRequest> requests) {
+        if (requests.isEmpty()) {
+            return 0;
         }
-    }
 
-    /**
-     * 입력 유효성 검사
-     */
-    private void validateNotificationInput(String senderNickname, ChatMessageResponseDto messageDto, String fcmToken) {
-        if (senderNickname == null || senderNickname.isBlank()) {
-            log.warn("알림 전송 실패: 발신자 닉네임이 유효하지 않습니다.");
-            throw new BusinessException(ErrorCode.NOTIFICATION_MESSAGE_INVALID);
-        }
+        List<Message> fcmMessages = requests.stream()
+                .map(this::createFcmMessage)
+                .collect(Collectors.toList());
 
-        if (messageDto == null) {
-            log.warn("알림 전송 실패: 메시지 DTO가 null입니다.");
-            throw new BusinessException(ErrorCode.NOTIFICATION_MESSAGE_INVALID);
+        List<FirebaseMessagingException> failures;
+        try {
+            failures = fcmPushSender.sendEach(fcmMessages);
+        } catch (FirebaseMessagingException e) {
+            log.error("FCM 일괄 전송 요청 실패: batchSize={}, error={}", requests.size(), e.getMessage(), e);
+            return 0;
         }
 
-        if (fcmToken == null || fcmToken.isBlank()) {
-            log.warn("알림 전송 실패: FCM 토큰이 유효하지 않습니다.");
-            throw new BusinessException(ErrorCode.NOTIFICATION_MESSAGE_INVALID);
+        int successCount = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            FirebaseMessagingException failure = failures.get(i);
+            if (failure == null) {
+                successCount++;
+                continue;
+            }
+
+            Long receiverId = requests.get(i).getReceiverId();
+            if (!handleTokenError(failure, receiverId)) {
+                log.warn("FCM 알림 전송 실패: receiverId={}, error={}", receiverId, failure.getMessage());
+            }
         }
+        return successCount;
     }
 
     /**
-     * Firebase 메시지 전송 및 예외 처리
-     * 토큰 만료 또는 변경 자동 처리 기능 추가
+     * Firebase 메시지 구성
      */
-    private String sendFcmMessage(Message fcmMessage, Long receiverId) throws BusinessException {
-        try {
-            return firebaseMessaging.sendAsync(fcmMessage).get();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("FCM 알림 전송이 중단되었습니다: {}", e.getMessage());
-            throw new BusinessException(ErrorCode.FAILED_TO_SEND_NOTIFICATION);
-        } catch (ExecutionException e) {
-            Throwable cause = e.getCause();
-            
-            // FCM 토큰 관련 오류 처리
-            if (cause instanceof FirebaseMessagingException) {
-                FirebaseMessagingException firebaseException = (FirebaseMessagingException) cause;
-                
-                // 토큰 관련 오류 처리
-                if (handleTokenError(firebaseException, receiverId)) {
-                    // 토큰 관련 오류는 예외를 throw하지 않고 로그만 남김
-                    return "Token error handled";
-                }
-            }
-            
-            log.error("FCM 알림 전송 중 오류 발생: {}", e.getMessage(), e);
-            throw new BusinessException(ErrorCode.FAILED_TO_SEND_NOTIFICATION);
-        }
+    private Message createFcmMessage(ChatPushRequest request) {
+        ChatMessageResponseDto messageDto = request.getMessage();
+
+        // Firebase 알림 생성
+        Notification notification = Notification.builder()
+                .setTitle(request.getSenderNickname())
+                .setBody(formatNotificationContent(request))
+                .build();
+
+        // 알림과 함께 전달할 추가 데이터 생성
+        Map<String, String> dataPayload = createDataPayload(messageDto, request.getSenderNickname());
+        dataPayload.put("messageCount", String.valueOf(request.getMessageCount()));
+
+        // 채팅방 단위 collapse key - 같은 채팅방의 이전 알림을 최신 알림으로 대체
+        String collapseKey = CHAT_ROOM_COLLAPSE_KEY_PREFIX + messageDto.getRoomId();
+
+        return Message.builder()
+                .setToken(request.getFcmToken())
+                .setNotification(notification)
+                .putAllData(dataPayload)
+                .setAndroidConfig(AndroidConfig.builder()
+                        .setCollapseKey(collapseKey)
+                        .setNotification(AndroidNotification.builder()
+                                .setTag(collapseKey)
+                                .build())
+                        .build())
+                .setApnsConfig(ApnsConfig.builder()
+                        .putHeader("apns-collapse-id", collapseKey)
+                        .setAps(Aps.builder()
+                                .setThreadId(collapseKey)
+                                .build())
+                        .build())
+                .setWebpushConfig(WebpushConfig.builder()
+                        .putHeader("Topic", collapseKey)
+                        .build())
+                .build();
     }
-    
+
     /**
      * FCM 토큰 관련 오류 처리
      * @return true: 토큰 관련 오류가 처리됨, false: 다른 오류
@@ -164,6 +151,21 @@ public class FirebaseNotificationServiceImpl implements FirebaseNotificationServ
     /**
      * 메시지 유형에 따른 알림 내용 포맷팅
      */
+    private String formatNotificationContent(ChatPushRequest request) {
+        int messageCount = request.getMessageCount();
+
+        // 연속 알림이 임계치를 넘으면 다이제스트 문구
+        if (request.isDigest()) {
+            return request.getSenderNickname() + "님의 새 메시지 " + messageCount + "개";
+        }
+
+        // 합쳐진 연속 메시지가 있으면 개수 표시
+        String content = formatNotificationContent(request.getMessage());
+        return messageCount > 1
+                ? content + " (외 " + (messageCount - 1) + "개)"
+                : content;
+    }
+
     private String formatNotificationContent(ChatMessageResponseDto messageDto) {
         if (messageDto.getMessageType() == MessageType.IMAGE) {
             return "사진을 보냈습니다.";
@@ -3,56 +3,65 @@ package org.ktb.matajo.service.notification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.ktb.matajo.dto.chat.ChatMessageResponseDto;
-import org.ktb.matajo.dto.chat.ChatRoomDetailResponseDto;
 import org.ktb.matajo.entity.User;
 import org.ktb.matajo.global.error.code.ErrorCode;
 import org.ktb.matajo.global.error.exception.BusinessException;
-import org.ktb.matajo.repository.UserRepository;
-import org.ktb.matajo.service.chat.ChatRoomService;
+import org.ktb.matajo.repository.ChatUserRepository;
 import org.ktb.matajo.service.chat.ChatSessionService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
-import java.util.Set;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class NotificationServiceImpl implements NotificationService {
-    private final ChatRoomService chatRoomService;
     private final ChatSessionService chatSessionService;
-    private final UserRepository userRepository;
-    private final FirebaseNotificationService firebaseNotificationService;
+    private final ChatUserRepository chatUserRepository;
+    private final ChatPushDispatcher chatPushDispatcher;
 
     @Override
     public void sendChatNotification(ChatMessageResponseDto messageDto, Long currentUserId) {
         // 입력 유효성 검사
         validateNotificationInput(messageDto, currentUserId);
 
-        try {
-            // 채팅방 상세 정보 조회
-            ChatRoomDetailResponseDto roomDetail = getChatRoomDetail(messageDto, currentUserId);
+        // 수신자 정보 조회
+        User receiverUser = findReceiverUser(messageDto.getRoomId(), currentUserId);
+
+        // 수신자가 채팅방을 보고 있으면 푸시 생략 (웹소켓으로 이미 메시지를 받음)
+        if (isReceiverActiveInRoom(messageDto, receiverUser.getId())) {
+            log.debug("FCM 알림 전송 생략 - 수신자가 채팅방 활성 상태: receiverId={}, roomId={}",
+                    receiverUser.getId(), messageDto.getRoomId());
+            chatPushDispatcher.suppress(receiverUser.getId(), messageDto.getRoomId());
+            return;
+        }
 
-            // 수신자 정보 조회
-            User receiverUser = findReceiverUser(roomDetail, currentUserId);
+        // 알림 전송 조건 확인
+        if (!shouldSendNotification(messageDto, receiverUser)) {
+            log.debug("FCM 알림 전송 생략: receiverId={}, hasFcmToken={}",
+                    receiverUser.getId(), receiverUser.getFcmToken() != null);
+            return;
+        }
 
-            // 알림 전송 조건 확인
-            if (shouldSendNotification(messageDto, receiverUser)) {
-                sendFirebaseNotification(messageDto, receiverUser);
-            } else {
-                log.debug("FCM 알림 전송 생략: receiverId={}, activeInRoom={}, hasFcmToken={}",
-                        receiverUser.getId(),
-                        isReceiverActiveInRoom(messageDto, receiverUser.getId()),
-                        receiverUser.getFcmToken() != null
-                );
-            }
-        } catch (BusinessException e) {
-            log.error("알림 전송 중 비즈니스 예외 발생: {}", e.getMessage(), e);
-            throw e;
-        } catch (Exception e) {
-            log.error("알림 전송 중 예상치 못한 오류 발생: {}", e.getMessage(), e);
-            throw new BusinessException(ErrorCode.FAILED_TO_SEND_NOTIFICATION);
+        ChatPushRequest pushRequest = ChatPushRequest.builder()
+                .receiverId(receiverUser.getId())
+                .fcmToken(receiverUser.getFcmToken())
+                .senderNickname(messageDto.getSenderNickname())
+                .message(messageDto)
+                .build();
+
+        // 메시지 저장 트랜잭션이 커밋된 뒤에만 전송 큐에 적재 (롤백된 메시지는 알리지 않음)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    chatPushDispatcher.enqueue(pushRequest);
+                }
+            });
+        } else {
+            chatPushDispatcher.enqueue(pushRequest);
         }
     }
 
@@ -69,42 +78,19 @@ public class NotificationServiceImpl implements NotificationService {
         }
     }
 
-    // 채팅방 상세 정보 조회
-    private ChatRoomDetailResponseDto getChatRoomDetail(ChatMessageResponseDto messageDto, Long currentUserId) {
-        try {
-            return chatRoomService.getChatRoomDetail(currentUserId, messageDto.getRoomId());
-        } catch (Exception e) {
-            log.error("채팅방 상세 정보 조회 실패: {}", e.getMessage());
-            throw new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND);
-        }
-    }
-
-    // 수신자 사용자 조회
-    private User findReceiverUser(ChatRoomDetailResponseDto roomDetail, Long currentUserId) {
-        // 상대방 ID 확인 (발신자와 다른 사용자)
-        Long receiverId = currentUserId.equals(roomDetail.getKeeperId())
-                ? roomDetail.getClientId()
-                : roomDetail.getKeeperId();
-
-        return userRepository.findById(receiverId)
+    // 수신자 사용자 조회 (채팅방에서 발신자를 제외한 상대방)
+    private User findReceiverUser(Long roomId, Long currentUserId) {
+        return chatUserRepository.findCounterpartUsers(roomId, currentUserId).stream()
+                .findFirst()
                 .orElseThrow(() -> {
-                    log.warn("알림 전송 실패: 수신자 사용자를 찾을 수 없습니다. userId={}", receiverId);
+                    log.warn("알림 전송 실패: 수신자 사용자를 찾을 수 없습니다. roomId={}, senderId={}", roomId, currentUserId);
                     return new BusinessException(ErrorCode.NOTIFICATION_RECEIVER_NOT_FOUND);
                 });
     }
 
     // 알림 전송 조건 확인
     private boolean shouldSendNotification(ChatMessageResponseDto messageDto, User receiverUser) {
-//        // 조건 1: 수신자가 채팅방에 없음
-//        boolean isReceiverNotActive = !isReceiverActiveInRoom(messageDto, receiverUser.getId());
-//
-//        // 조건 2: FCM 토큰이 유효함
-//        boolean hasValidFcmToken = receiverUser.getFcmToken() != null
-//                && !receiverUser.getFcmToken().isBlank();
-//
-//        return isReceiverNotActive && hasValidFcmToken;
-
-        // FCM 토큰이 유효한지만 확인
+        // FCM 토큰이 유효한지 확인
         boolean hasValidFcmToken = receiverUser.getFcmToken() != null
                 && !receiverUser.getFcmToken().isBlank();
 
@@ -116,26 +102,6 @@ public class NotificationServiceImpl implements NotificationService {
 
     // 수신자가 채팅방에 활성화되어 있는지 확인
     private boolean isReceiverActiveInRoom(ChatMessageResponseDto messageDto, Long receiverId) {
-        Set<Long> activeUsersInRoom = chatSessionService.getActiveUsersInRoom(messageDto.getRoomId());
-        return activeUsersInRoom.contains(receiverId);
-    }
-
-    // Firebase 알림 전송
-    private void sendFirebaseNotification(ChatMessageResponseDto messageDto, User receiverUser) {
-        log.info("🔔 FCM 알림 전송 시도: receiverId={}, senderNickname={}, fcmToken={}",
-                receiverUser.getId(), messageDto.getSenderNickname(), receiverUser.getFcmToken());
-        try {
-            firebaseNotificationService.sendMessageNotification(
-                    messageDto.getSenderNickname(),
-                    messageDto,
-                    receiverUser.getFcmToken(),
-                    receiverUser.getId()
-            );
-            log.info("FCM 알림 전송 성공: receiverId={}, senderNickname={}",
-                    receiverUser.getId(), messageDto.getSenderNickname());
-        } catch (Exception e) {
-            log.error("Firebase 알림 전송 실패: {}", e.getMessage(), e);
-            throw new BusinessException(ErrorCode.FAILED_TO_SEND_NOTIFICATION);
-        }
+        return chatSessionService.isUserActiveInRoom(messageDto.getRoomId(), receiverId);
     }
 }
\ No newline at end of file
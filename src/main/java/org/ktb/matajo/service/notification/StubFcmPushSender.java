@@ -0,0 +1,35 @@
+package org.ktb.matajo.service.notification;
+
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬/테스트용 FCM 전송 스텁
+ * Firebase 설정 파일 없이 동작하며, 모든 메시지를 성공으로 처리하고 전송 건수만 기록합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "firebase.enabled", havingValue = "false")
+public class StubFcmPushSender implements FcmPushSender {
+
+    private final AtomicLong sentCount = new AtomicLong();
+
+    @Override
+    public List<FirebaseMessagingException> sendEach(List<Message> messages) {
+        long total = sentCount.addAndGet(messages.size());
+        log.debug("FCM 스텁 전송: batchSize={}, totalSent={}", messages.size(), total);
+        return new ArrayList<>(Collections.nCopies(messages.size(), null));
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+}
@@ -0,0 +1,60 @@
+package org.ktb.matajo.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ktb.matajo.entity.OutboxEvent;
+import org.ktb.matajo.entity.OutboxEventType;
+import org.ktb.matajo.global.error.code.ErrorCode;
+import org.ktb.matajo.global.error.exception.BusinessException;
+import org.ktb.matajo.repository.OutboxEventRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 아웃박스 이벤트 기록기
+ * 호출한 쪽의 트랜잭션 안에서 이벤트를 저장하므로 롤백된 변경의 이벤트는 전파되지 않습니다.
+ * 커밋 직후 릴레이를 깨워 주기적 폴링을 기다리지 않고 바로 전파합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxRelay outboxRelay;
+
+    /**
+     * 이벤트 기록 (반드시 비즈니스 트랜잭션 안에서 호출)
+     *
+     * @param eventType 이벤트 종류
+     * @param aggregateId 순서 보장 단위 ID (채팅방 ID)
+     * @param payload 이벤트 내용 (JSON으로 저장)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(OutboxEventType eventType, Long aggregateId, Object payload) {
+        String json;
+        try {
+            json = OutboxRelay.PAYLOAD_MAPPER.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("아웃박스 이벤트 직렬화 실패: type={}, aggregateId={}", eventType, aggregateId, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateId(aggregateId)
+                .payload(json)
+                .build());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxRelay.wakeUp();
+            }
+        });
+    }
+}
@@ -0,0 +1,336 @@
+package org.ktb.matajo.service.outbox;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.ktb.matajo.dto.chat.ChatMessageResponseDto;
+import org.ktb.matajo.entity.OutboxEvent;
+import org.ktb.matajo.repository.ChatMessageRepository;
+import org.ktb.matajo.repository.OutboxEventRepository;
+import org.ktb.matajo.service.chat.RedisChatMessageService;
+import org.ktb.matajo.service.notification.NotificationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 아웃박스 릴레이
+ * 커밋된 아웃박스 이벤트를 ID 순서대로 배치 조회하여 STOMP 브로드캐스트, 채팅 캐시 갱신, FCM 알림으로 전파하고 삭제합니다.
+ * 전파는 요청 스레드가 아닌 전용 스레드에서 수행하며, 커밋 직후 깨우기와 주기적 폴링(장애 복구용)으로 실행됩니다.
+ * 배치는 짧은 트랜잭션에서 선점 만료 시각(claimedUntil)을 기록해 선점한 뒤 커밋하고, 행 잠금 없이 전파한 다음
+ * 별도 트랜잭션에서 결과를 정리하므로 느린 브로커가 다른 서버의 릴레이를 막지 않습니다.
+ * 전파 후 삭제 전에 실패하거나 서버가 중단되면 선점이 만료된 뒤 다시 전파되므로 최소 한 번(at-least-once) 전달이며,
+ * 클라이언트는 messageId로 중복을 걸러야 합니다.
+ * 한 채팅방의 이벤트 전파가 실패하면 같은 배치의 해당 채팅방 이후 이벤트는 선점을 풀고 보류하여 채팅방 내 순서를 유지합니다.
+ * 여러 서버의 릴레이는 서로 잠근 행을 건너뛰며(SKIP LOCKED), 다른 서버가 잠갔거나 선점한 더 이른 이벤트가 있는 채팅방은
+ * 그 이벤트 이후부터 보류하여 서버 간에도 채팅방 내 순서를 유지합니다.
+ * 채팅방 내 이벤트 ID 순서는 커밋 순서와 같습니다. (메시지 저장 트랜잭션이 채팅방 순번 UPDATE로 채팅방 행을 잠근 뒤 이벤트를 기록)
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    // 아웃박스 페이로드 전용 직렬화기 (응답용 ObjectMapper의 날짜 포맷은 역직렬화할 수 없으므로 ISO 형식 사용)
+    static final ObjectMapper PAYLOAD_MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final RedisChatMessageService redisChatMessageService;
+    private final NotificationService notificationService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration claimTimeout;
+
+    private final ExecutorService executor;
+    // 대기 중인 전파 작업 존재 여부 (깨우기 요청 병합)
+    private final AtomicBoolean drainRequested = new AtomicBoolean(false);
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter discardedCounter;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       ChatMessageRepository chatMessageRepository,
+                       RedisChatMessageService redisChatMessageService,
+                       NotificationService notificationService,
+                       SimpMessagingTemplate messagingTemplate,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.batch-size:200}") int batchSize,
+                       @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${outbox.relay.claim-timeout-ms:30000}") long claimTimeoutMillis) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        this.redisChatMessageService = redisChatMessageService;
+        this.notificationService = notificationService;
+        this.messagingTemplate = messagingTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.claimTimeout = Duration.ofMillis(claimTimeoutMillis);
+
+        // 선점·정리 트랜잭션의 잠금 조회가 갭 잠금을 잡아 새 이벤트 INSERT를 막지 않도록 READ COMMITTED 사용
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.publishedCounter = meterRegistry.counter("outbox.relay.published");
+        this.failedCounter = meterRegistry.counter("outbox.relay.failed");
+        this.discardedCounter = meterRegistry.counter("outbox.relay.discarded");
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("아웃박스 릴레이가 제시간에 종료되지 않았습니다. 남은 이벤트는 다음 실행 시 전파됩니다.");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 전파 요청 (블로킹하지 않음, 이미 대기 중인 요청이 있으면 병합)
+     */
+    public void wakeUp() {
+        if (drainRequested.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drainSafely);
+            } catch (Exception e) {
+                drainRequested.set(false);
+                log.warn("아웃박스 릴레이 실행 요청 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 주기적 폴링 - 깨우기가 누락되었거나 다른 서버가 남긴 이벤트, 실패 후 재시도 대상 전파
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:1000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    private void drainSafely() {
+        // 실행 시작 시점에 요청 플래그를 내려야 실행 중 들어온 요청이 유실되지 않음
+        drainRequested.set(false);
+        try {
+            boolean hasMore = true;
+            while (hasMore) {
+                hasMore = drainBatch();
+            }
+        } catch (Exception e) {
+            log.error("아웃박스 이벤트 전파 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    // 배치 하나를 선점·전파·정리, 실패나 보류 없이 배치가 가득 찼으면 true (곧바로 다음 배치 처리)
+    private boolean drainBatch() {
+        Set<Long> blockedAggregates = new HashSet<>();
+        List<OutboxEvent> claimed = transactionTemplate.execute(status -> claimBatch(blockedAggregates));
+        if (claimed == null || claimed.isEmpty()) {
+            return false;
+        }
+
+        // 선점 트랜잭션 커밋 후 (행 잠금 없이) 전파
+        List<Long> completedIds = new ArrayList<>(claimed.size());
+        List<Long> failedIds = new ArrayList<>();
+        List<Long> postponedIds = new ArrayList<>();
+        List<ChatMessageResponseDto> notifications = new ArrayList<>();
+
+        for (OutboxEvent event : claimed) {
+            // 앞선 이벤트가 실패한 채팅방은 순서 유지를 위해 선점을 풀고 다음 실행으로 보류
+            if (blockedAggregates.contains(event.getAggregateId())) {
+                postponedIds.add(event.getId());
+                continue;
+            }
+
+            try {
+                dispatch(event, notifications);
+                completedIds.add(event.getId());
+                publishedCounter.increment();
+            } catch (Exception e) {
+                failedCounter.increment();
+                failedIds.add(event.getId());
+                blockedAggregates.add(event.getAggregateId());
+                log.warn("아웃박스 이벤트 전파 실패: id={}, type={}, aggregateId={}, attempts={}, error={}",
+                        event.getId(), event.getEventType(), event.getAggregateId(), event.getAttempts() + 1,
+                        e.getMessage());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> settle(completedIds, failedIds, postponedIds));
+
+        sendNotifications(notifications);
+
+        return claimed.size() == batchSize && blockedAggregates.isEmpty();
+    }
+
+    // 전파할 이벤트를 선점 (행 잠금은 이 짧은 트랜잭션 동안만 유지)
+    private List<OutboxEvent> claimBatch(Set<Long> blockedAggregates) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository.findPendingForUpdate(now, PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return events;
+        }
+
+        Map<Long, Long> foreignEarliestIds = findForeignEarliestIds(events);
+        LocalDateTime claimedUntil = now.plus(claimTimeout);
+        List<OutboxEvent> claimed = new ArrayList<>(events.size());
+
+        for (OutboxEvent event : events) {
+            if (blockedAggregates.contains(event.getAggregateId())) {
+                continue;
+            }
+
+            // 다른 서버가 잡고 있는 더 이른 이벤트가 있으면 그 이벤트가 전파된 뒤 다음 실행에서 처리
+            Long foreignEarliestId = foreignEarliestIds.get(event.getAggregateId());
+            if (foreignEarliestId != null && foreignEarliestId < event.getId()) {
+                blockedAggregates.add(event.getAggregateId());
+                continue;
+            }
+
+            event.claim(claimedUntil);
+            claimed.add(event);
+        }
+        return claimed;
+    }
+
+    // 전파 결과 반영: 성공은 삭제, 실패는 시도 횟수 기록 후 선점 해제 (재시도 초과 시 폐기), 보류는 선점 해제
+    private void settle(List<Long> completedIds, List<Long> failedIds, List<Long> postponedIds) {
+        List<Long> deleteIds = new ArrayList<>(completedIds);
+        Set<Long> failed = new HashSet<>(failedIds);
+
+        List<Long> unsettledIds = new ArrayList<>(failedIds);
+        unsettledIds.addAll(postponedIds);
+        for (OutboxEvent event : outboxEventRepository.findAllById(unsettledIds)) {
+            if (!failed.contains(event.getId())) {
+                event.release();
+                continue;
+            }
+
+            event.recordFailure();
+            if (event.getAttempts() >= maxAttempts) {
+                log.error("아웃박스 이벤트 전파 재시도 초과로 폐기: id={}, type={}, aggregateId={}, payload={}",
+                        event.getId(), event.getEventType(), event.getAggregateId(), event.getPayload());
+                deleteIds.add(event.getId());
+                discardedCounter.increment();
+            }
+        }
+
+        if (!deleteIds.isEmpty()) {
+            outboxEventRepository.deleteAllByIdInBatch(deleteIds);
+        }
+    }
+
+    // 이번 배치의 채팅방별로, 배치 최대 ID 이하이지만 배치에 없는(다른 서버가 잠근) 가장 이른 이벤트 ID
+    private Map<Long, Long> findForeignEarliestIds(List<OutboxEvent> events) {
+        Set<Long> aggregateIds = new HashSet<>();
+        List<Long> claimedIds = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            aggregateIds.add(event.getAggregateId());
+            claimedIds.add(event.getId());
+        }
+        Long maxId = events.get(events.size() - 1).getId();
+
+        Map<Long, Long> foreignEarliestIds = new HashMap<>();
+        for (Object[] row : outboxEventRepository.findEarliestUnclaimedIds(aggregateIds, maxId, claimedIds)) {
+            foreignEarliestIds.put((Long) row[0], (Long) row[1]);
+        }
+        return foreignEarliestIds;
+    }
+
+    private void dispatch(OutboxEvent event, List<ChatMessageResponseDto> notifications) throws Exception {
+        switch (event.getEventType()) {
+            case CHAT_MESSAGE -> {
+                ChatMessageResponseDto message =
+                        PAYLOAD_MAPPER.readValue(event.getPayload(), ChatMessageResponseDto.class);
+                dispatchChatMessage(message);
+                notifications.add(message);
+            }
+            case READ_STATUS -> dispatchReadStatus(event.getAggregateId(),
+                    PAYLOAD_MAPPER.readValue(event.getPayload(), MAP_TYPE));
+        }
+    }
+
+    // 채팅 메시지: 브로드캐스트가 실패하면 재시도, 캐시 추가는 부가 작업이므로 실패해도 진행
+    private void dispatchChatMessage(ChatMessageResponseDto message) {
+        Long roomId = message.getRoomId();
+
+        messagingTemplate.convertAndSend("/topic/chat/" + roomId, message);
+
+        try {
+            redisChatMessageService.cacheMessage(roomId, message);
+        } catch (Exception e) {
+            log.warn("메시지 캐싱 실패: {}", e.getMessage());
+        }
+    }
+
+    // FCM 알림은 배치 정리 후 전송 (알림 서비스의 트랜잭션 예외가 릴레이 트랜잭션을 롤백시키지 않도록 분리)
+    private void sendNotifications(List<ChatMessageResponseDto> notifications) {
+        for (ChatMessageResponseDto message : notifications) {
+            try {
+                notificationService.sendChatNotification(message, message.getSenderId());
+            } catch (Exception e) {
+                log.warn("채팅 알림 전송 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    // 읽음 상태: 캐시된 읽음 워터마크만 전진시키고(메시지 캐시는 유지) 읽음 워터마크와 안 읽은 개수를 브로드캐스트
+    private void dispatchReadStatus(Long roomId, Map<String, Object> readStatusUpdate) {
+        Long userId = ((Number) readStatusUpdate.get("readBy")).longValue();
+        Long lastReadMessageId = ((Number) readStatusUpdate.get("lastReadMessageId")).longValue();
+        redisChatMessageService.updateReadWatermark(roomId, userId, lastReadMessageId);
+
+        messagingTemplate.convertAndSend("/topic/chat/" + roomId + "/status", readStatusUpdate);
+
+        // 안 읽은 메시지 개수는 전파 시점의 커밋된 상태로 계산 (워터마크 이후 범위 카운트)
+        Long unreadCount = chatMessageRepository.countUnreadMessages(roomId, userId);
+        Map<String, Object> unreadCountUpdate = new HashMap<>();
+        unreadCountUpdate.put("type", "UNREAD_COUNT_UPDATE");
+        unreadCountUpdate.put("roomId", roomId);
+        unreadCountUpdate.put("userId", userId);
+        unreadCountUpdate.put("unreadCount", unreadCount);
+
+        messagingTemplate.convertAndSend("/topic/chat/unread", unreadCountUpdate);
+    }
+}
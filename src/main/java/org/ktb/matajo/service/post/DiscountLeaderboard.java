@@ -0,0 +1,238 @@
+package org.ktb.matajo.service.post;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ktb.matajo.entity.Image;
+import org.ktb.matajo.entity.LocationInfo;
+import org.ktb.matajo.entity.Post;
+import org.ktb.matajo.repository.PostRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 동별 할인율 순위표 (메모리)
+ * 동 ID마다 할인 중인 활성 게시글을 (할인율 내림차순, 게시글 ID 내림차순) 정렬 집합으로 유지하여
+ * 지역 특가 조회를 정렬 없이 상위 K개 순회로 처리합니다. 썸네일 URL도 함께 보관하므로 이미지 조회가 필요 없습니다.
+ * 시작 시와 주기적으로 재구축하며, 게시글 수정·삭제·숨김은 트랜잭션 커밋 후 반영합니다.
+ * 재구축의 DB 조회와 교체 사이에 반영된 변경은 교체 후 다시 적용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DiscountLeaderboard {
+
+    private static final Comparator<DealEntry> RANKING = Comparator
+            .comparing(DealEntry::getDiscountRate, Comparator.reverseOrder())
+            .thenComparing(DealEntry::getPostId, Comparator.reverseOrder());
+
+    private final PostRepository postRepository;
+
+    // 동 ID -> 할인 게시글 순위
+    private final Map<Long, NavigableSet<DealEntry>> dealsByLocation = new HashMap<>();
+    // 게시글 ID -> 순위표 항목 (제거 시 위치 확인용)
+    private final Map<Long, DealEntry> entriesByPost = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 재구축 중 반영된 변경 기록 (쓰기 잠금 안에서만 접근, 재구축 중이 아니면 null)
+    private List<Runnable> updatesDuringRebuild;
+
+    private volatile boolean loaded = false;
+
+    /**
+     * 전체 순위표 재구축 (시작 시 및 주기적으로 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${post.discount-leaderboard.rebuild-interval-ms:600000}",
+            initialDelayString = "${post.discount-leaderboard.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        startRecordingUpdates();
+        try {
+            swap(postRepository.findActiveDiscountedPostEntries());
+        } finally {
+            stopRecordingUpdates();
+        }
+    }
+
+    private void swap(List<Object[]> rows) {
+        lock.writeLock().lock();
+        try {
+            dealsByLocation.clear();
+            entriesByPost.clear();
+            for (Object[] row : rows) {
+                Long postId = (Long) row[0];
+                // 썸네일이 여러 장이면 첫 번째만 사용
+                if (entriesByPost.containsKey(postId)) {
+                    continue;
+                }
+                addEntry(new DealEntry(postId, (Long) row[1], (String) row[2],
+                        ((Number) row[3]).floatValue(), (String) row[4]));
+            }
+            // DB 조회 이후 반영된 변경을 새 순위표에 다시 적용
+            updatesDuringRebuild.forEach(Runnable::run);
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("할인 순위표 재구축 완료: 동 수={}, 할인 게시글 수={}", dealsByLocation.size(), entriesByPost.size());
+    }
+
+    /**
+     * 동의 할인율 상위 게시글 조회
+     *
+     * @param locationInfoId 동 ID
+     * @param limit 최대 결과 수
+     * @return 할인율 내림차순 항목
+     */
+    public List<DealEntry> findTop(Long locationInfoId, int limit) {
+        ensureLoaded();
+
+        lock.readLock().lock();
+        try {
+            NavigableSet<DealEntry> deals = dealsByLocation.get(locationInfoId);
+            if (deals == null) {
+                return Collections.emptyList();
+            }
+            List<DealEntry> top = new ArrayList<>(Math.min(limit, deals.size()));
+            for (DealEntry deal : deals) {
+                if (top.size() >= limit) {
+                    break;
+                }
+                top.add(deal);
+            }
+            return top;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 변경 사항을 트랜잭션 커밋 후 순위표에 반영
+     * 할인 중인 활성 게시글이면 갱신하고, 그 외(삭제·숨김·할인 없음)에는 제거합니다.
+     */
+    public void updateAfterCommit(Post post) {
+        DealEntry entry = toEntry(post);
+        Long postId = post.getId();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update(postId, entry);
+                }
+            });
+        } else {
+            update(postId, entry);
+        }
+    }
+
+    // 트랜잭션 안에서 게시글 상태를 항목으로 변환 (순위표 대상이 아니면 null)
+    private DealEntry toEntry(Post post) {
+        if (post.isDeleted() || post.isHiddenStatus() || post.getDiscountRate() <= 0) {
+            return null;
+        }
+        LocationInfo locationInfo = post.getAddress() != null ? post.getAddress().getLocationInfo() : null;
+        if (locationInfo == null) {
+            return null;
+        }
+        String thumbnailUrl = post.getImageList().stream()
+                .filter(Image::isThumbnailStatus)
+                .findFirst()
+                .map(Image::getImageUrl)
+                .orElse(null);
+        return new DealEntry(post.getId(), locationInfo.getId(), post.getTitle(),
+                post.getDiscountRate(), thumbnailUrl);
+    }
+
+    private void update(Long postId, DealEntry entry) {
+        lock.writeLock().lock();
+        try {
+            apply(postId, entry);
+            if (updatesDuringRebuild != null) {
+                updatesDuringRebuild.add(() -> apply(postId, entry));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void apply(Long postId, DealEntry entry) {
+        DealEntry previous = entriesByPost.remove(postId);
+        if (previous != null) {
+            NavigableSet<DealEntry> deals = dealsByLocation.get(previous.getLocationInfoId());
+            if (deals != null) {
+                deals.remove(previous);
+                if (deals.isEmpty()) {
+                    dealsByLocation.remove(previous.getLocationInfoId());
+                }
+            }
+        }
+        if (entry != null) {
+            addEntry(entry);
+        }
+    }
+
+    private void startRecordingUpdates() {
+        lock.writeLock().lock();
+        try {
+            updatesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void stopRecordingUpdates() {
+        lock.writeLock().lock();
+        try {
+            updatesDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void addEntry(DealEntry entry) {
+        dealsByLocation.computeIfAbsent(entry.getLocationInfoId(), id -> new TreeSet<>(RANKING)).add(entry);
+        entriesByPost.put(entry.getPostId(), entry);
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    /**
+     * 순위표 항목 (불변)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class DealEntry {
+        private final Long postId;
+        private final Long locationInfoId;
+        private final String title;
+        private final float discountRate;
+        private final String thumbnailUrl;
+    }
+}
@@ -0,0 +1,118 @@
+package org.ktb.matajo.service.post;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 로컬 캐시 (Caffeine)
+ * 게시글 상세 스냅샷을 크기 기반으로 보관하며, 게시글 변경 시 트랜잭션 커밋 후 무효화합니다.
+ * post.detail-cache.redis-invalidation=true이면 Redis Pub/Sub으로 다른 노드에도 무효화를 전파합니다.
+ * 히트율과 로딩 시간은 cache.* 메트릭(cache=postDetail)으로 수집됩니다.
+ */
+@Slf4j
+@Component
+public class PostDetailCache {
+
+    private static final String CACHE_NAME = "postDetail";
+    private static final String INVALIDATION_CHANNEL = "post:detail:invalidate";
+
+    private final Cache<Long, PostDetailSnapshot> cache;
+    private final boolean redisInvalidation;
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+
+    public PostDetailCache(@Value("${post.detail-cache.maximum-size:10000}") long maximumSize,
+                           @Value("${post.detail-cache.ttl-seconds:600}") long ttlSeconds,
+                           @Value("${post.detail-cache.redis-invalidation:false}") boolean redisInvalidation,
+                           ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+                           ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider,
+                           MeterRegistry meterRegistry) {
+        // 작성자 닉네임 등 게시글 외부 변경은 무효화 대상이 아니므로 TTL로 최신성을 보장
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.redisInvalidation = redisInvalidation;
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.listenerContainerProvider = listenerContainerProvider;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (!redisInvalidation) {
+            return;
+        }
+
+        listenerContainerProvider.getObject().addMessageListener(
+                (message, pattern) -> invalidateLocally(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+        log.info("게시글 상세 캐시 무효화 채널 구독 시작: channel={}", INVALIDATION_CHANNEL);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 스냅샷을 만들어 저장
+     * loader에서 예외가 발생하면 캐시에 저장하지 않고 그대로 전파됩니다.
+     */
+    public PostDetailSnapshot get(Long postId, Function<Long, PostDetailSnapshot> loader) {
+        return cache.get(postId, loader);
+    }
+
+    /**
+     * 게시글 변경 시 캐시 무효화
+     * 즉시 제거하고, 커밋 전에 다른 요청이 이전 상태를 다시 적재할 수 있으므로 커밋 후 한 번 더 제거합니다.
+     */
+    public void invalidateAfterCommit(Long postId) {
+        cache.invalidate(postId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(postId);
+                }
+            });
+        } else {
+            invalidate(postId);
+        }
+    }
+
+    private void invalidate(Long postId) {
+        cache.invalidate(postId);
+
+        if (redisInvalidation) {
+            try {
+                redisTemplateProvider.getObject().convertAndSend(INVALIDATION_CHANNEL, String.valueOf(postId));
+            } catch (Exception e) {
+                // 다른 노드는 TTL 만료로 최신화됨
+                log.warn("게시글 상세 캐시 무효화 발행 실패: postId={}, 오류={}", postId, e.getMessage());
+            }
+        }
+    }
+
+    private void invalidateLocally(String body) {
+        try {
+            cache.invalidate(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 게시글 상세 캐시 무효화 메시지: {}", body);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.ktb.matajo.service.post;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.ktb.matajo.dto.post.PostDetailResponseDto;
+
+import java.util.List;
+
+/**
+ * 게시글 상세 캐시용 불변 스냅샷
+ * 조회자마다 달라지는 수정 가능 여부(editable)는 담지 않고, 응답 생성 시 작성자 ID와 비교하여 계산합니다.
+ */
+@Getter
+@Builder
+public class PostDetailSnapshot {
+
+    private final Long postId;
+    private final Long keeperId;
+    private final List<String> postImages;
+    private final String postTitle;
+    private final List<String> postTags;
+    private final int preferPrice;
+    private final String postContent;
+    private final String postAddress;
+    private final String nickname;
+    private final boolean hiddenStatus;
+
+    /**
+     * 조회자 기준 응답 DTO 생성
+     */
+    public PostDetailResponseDto toResponse(Long viewerId) {
+        return PostDetailResponseDto.builder()
+                .postId(postId)
+                .postImages(postImages)
+                .postTitle(postTitle)
+                .postTags(postTags)
+                .preferPrice(preferPrice)
+                .postContent(postContent)
+                .postAddress(postAddress)
+                .nickname(nickname)
+                .hiddenStatus(hiddenStatus)
+                .editable(isKeeper(viewerId))
+                .build();
+    }
+
+    public boolean isKeeper(Long userId) {
+        return keeperId != null && keeperId.equals(userId);
+    }
+}
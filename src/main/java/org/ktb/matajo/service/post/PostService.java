@@ -14,12 +14,21 @@ public interface PostService {
 
   /**
    * 게시글 목록 조회
-   * @param offset 시작 오프셋
+   * @param offset 조회 시작 위치 (건너뛸 게시글 수)
    * @param limit 조회할 게시글 수
    * @return 게시글 목록 DTO
    */
   List<PostListResponseDto> getPostList(int offset, int limit);
 
+  /**
+   * 게시글 목록 커서 기반 조회 (createdAt, id 키셋)
+   * @param tagNames 필터링할 태그 이름 목록 (없으면 전체)
+   * @param cursor 이전 응답의 nextCursor (비어 있으면 첫 페이지)
+   * @param limit 조회할 게시글 수
+   * @return 게시글 목록과 다음 페이지 커서
+   */
+  PostCursorPageResponseDto<PostListResponseDto> getPostFeed(List<String> tagNames, String cursor, int limit);
+
   /**
    * 게시글 등록
    * @param requestDto 게시글 정보
@@ -68,15 +77,28 @@ public interface PostService {
    */
   List<LocationDealResponseDto> getTopDiscountedPosts(Long locationInfoId);
   
+  /**
+   * 좌표 반경 내 활성 게시글 조회 (가까운 순)
+   * @param latitude 중심 위도
+   * @param longitude 중심 경도
+   * @param radiusKm 반경 (km)
+   * @param limit 최대 게시글 수
+   * @return 거리순 게시글 목록
+   */
+  List<NearbyPostResponseDto> getNearbyPosts(double latitude, double longitude, double radiusKm, int limit);
+
   // 내 보관소 조회
   List<PostResponseDto> getMyPosts(Long userId, int offset, int limit);
 
+  // 내 보관소 커서 기반 조회 (createdAt, id 키셋)
+  PostCursorPageResponseDto<PostResponseDto> getMyPostFeed(Long userId, String cursor, int limit);
+
   
   /**
    * 카테고리별 태그 필터링 기반 게시글 목록 조회
    * 각 카테고리 내 태그는 OR 조건, 카테고리 간 태그는 AND 조건으로 필터링
    * @param tagNames 필터링할 태그 이름 목록
-   * @param offset 시작 오프셋
+   * @param offset 조회 시작 위치 (건너뛸 게시글 수)
    * @param limit 조회할 게시글 수
    * @return 카테고리 기반 태그 필터링된 게시글 목록
    */
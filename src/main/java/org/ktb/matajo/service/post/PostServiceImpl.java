@@ -1,28 +1,38 @@
 package org.ktb.matajo.service.post;
 
-import java.util.HashSet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.ktb.matajo.dto.location.LocationDealResponseDto;
 import org.ktb.matajo.dto.location.LocationPostResponseDto;
 import org.ktb.matajo.dto.post.*;
 import org.ktb.matajo.entity.*;
+import org.ktb.matajo.global.common.OffsetPageRequest;
 import org.ktb.matajo.global.error.code.ErrorCode;
 import org.ktb.matajo.global.error.exception.BusinessException;
-import org.ktb.matajo.repository.LocationInfoRepository;
 import org.ktb.matajo.repository.PostRepository;
 import org.ktb.matajo.repository.TagRepository;
 import org.ktb.matajo.repository.UserRepository;
+import org.ktb.matajo.repository.projection.PostCardProjection;
 import org.ktb.matajo.security.SecurityUtil;
+import org.ktb.matajo.service.location.GeoGridIndex.GeoHit;
+import org.ktb.matajo.service.location.GeoSearchIndex;
+import org.ktb.matajo.service.location.LocationHomeCache;
+import org.ktb.matajo.service.location.LocationLookupTable;
+import org.ktb.matajo.service.post.DiscountLeaderboard.DealEntry;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -35,9 +45,21 @@ public class PostServiceImpl implements PostService {
     private final PostRepository postRepository;
     private final TagRepository tagRepository;
     private final UserRepository userRepository;
-    private final LocationInfoRepository locationInfoRepository;
 
     private final AddressService addressService;
+    private final PostTagIndex postTagIndex;
+    private final PostDetailCache postDetailCache;
+    private final TagDictionary tagDictionary;
+    private final GeoSearchIndex geoSearchIndex;
+    private final DiscountLeaderboard discountLeaderboard;
+    private final LocationLookupTable locationLookupTable;
+    private final LocationHomeCache locationHomeCache;
+
+    // 커서 기반 목록 조회 시 한 번에 조회 가능한 최대 게시글 수
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+
+    // 지역 특가로 노출할 게시글 수
+    private static final int PROMOTION_LIMIT = 2;
 
     /**
      * 게시글 목록 조회 메소드
@@ -49,44 +71,174 @@ public class PostServiceImpl implements PostService {
             throw new BusinessException(ErrorCode.INVALID_OFFSET_OR_LIMIT);
         }
 
-        // 페이징 처리된 게시글 목록 조회
-        Pageable pageable = PageRequest.of(offset, limit);
-        List<Post> posts = postRepository.findAllActivePostsOrderByCreatedAtDesc(pageable);
+        // 페이징 처리된 게시글 카드 조회 (offset은 조회 시작 위치)
+        Pageable pageable = OffsetPageRequest.of(offset, limit);
+        List<PostCardProjection> cards = postRepository.findActivePostCards(pageable);
 
-        // 엔티티를 DTO로 변환
-        return posts.stream()
-                .map(this::convertToPostResponseDto)
+        // 썸네일·태그를 일괄 조회하여 카드 DTO 조립
+        return assemblePostCards(cards);
+    }
+
+    /**
+     * 게시글 목록 커서 기반 조회 메소드
+     */
+    @Override
+    public PostCursorPageResponseDto<PostListResponseDto> getPostFeed(List<String> tagNames, String cursor, int limit) {
+        if (limit <= 0 || limit > MAX_FEED_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_OFFSET_OR_LIMIT);
+        }
+
+        PostCursor postCursor = PostCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 limit + 1 개 조회
+        List<PostCardProjection> cards;
+        if (tagNames != null && !tagNames.isEmpty()) {
+            cards = findTaggedPostCards(tagNames, postCursor, limit + 1);
+        } else if (postCursor == null) {
+            cards = postRepository.findActivePostCards(PageRequest.of(0, limit + 1));
+        } else {
+            cards = postRepository.findActivePostCardsBefore(
+                    postCursor.getCreatedAt(), postCursor.getPostId(), PageRequest.of(0, limit + 1));
+        }
+
+        boolean hasNext = cards.size() > limit;
+        List<PostCardProjection> pageCards = hasNext ? cards.subList(0, limit) : cards;
+        String nextCursor = hasNext
+                ? toCursor(pageCards.get(pageCards.size() - 1).getCreatedAt(), pageCards.get(pageCards.size() - 1).getPostId())
+                : null;
+
+        return PostCursorPageResponseDto.<PostListResponseDto>builder()
+                .posts(assemblePostCards(pageCards))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 태그 조건을 만족하는 게시글 카드를 커서 이후부터 최신순으로 최대 limit 개 조회
+     * 색인이 다른 노드의 변경을 아직 반영하지 못해 DB에서 비활성으로 걸러진 게시글이 있으면
+     * 색인의 다음 구간을 이어서 조회하여 채우므로, 결과가 limit 미만이면 더 이상 일치하는 게시글이 없습니다.
+     */
+    private List<PostCardProjection> findTaggedPostCards(List<String> tagNames, PostCursor postCursor, int limit) {
+        List<List<Long>> tagIdsByCategory = resolveTagIdsByCategory(tagNames);
+        if (tagIdsByCategory.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<PostCardProjection> cards = new ArrayList<>(limit);
+        // 태그 색인은 ID 내림차순(= 최신순)이므로 커서의 게시글 ID만으로 위치를 찾음
+        Long beforePostId = postCursor != null ? postCursor.getPostId() : null;
+
+        while (cards.size() < limit) {
+            List<Long> pagePostIds = beforePostId == null
+                    ? postTagIndex.findPostIds(tagIdsByCategory, 0, limit)
+                    : postTagIndex.findPostIdsBefore(tagIdsByCategory, beforePostId, limit);
+
+            cards.addAll(findPostCardsInOrder(pagePostIds));
+
+            // 색인에 남은 게시글이 없으면 종료
+            if (pagePostIds.size() < limit) {
+                break;
+            }
+            beforePostId = pagePostIds.get(pagePostIds.size() - 1);
+        }
+
+        return cards.size() > limit ? cards.subList(0, limit) : cards;
+    }
+
+    /**
+     * 게시글 ID 목록 순서대로 활성 게시글 카드 조회
+     */
+    private List<PostCardProjection> findPostCardsInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, PostCardProjection> cardsById = postRepository.findActivePostCardsByIds(postIds).stream()
+                .collect(Collectors.toMap(PostCardProjection::getPostId, card -> card));
+        return postIds.stream()
+                .map(cardsById::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
-    private PostListResponseDto convertToPostResponseDto(Post post) {
-        // 대표 이미지 URL 가져오기 (썸네일 이미지 또는 첫 번째 이미지)
-        String mainImageUrl = post.getImageList().stream()
-                .filter(Image::isThumbnailStatus)
-                .findFirst()
-                .map(Image::getImageUrl)
-                .orElseGet(() -> post.getImageList().isEmpty() ? null : post.getImageList().get(0).getImageUrl());
+    /**
+     * 태그 이름 목록을 카테고리별 태그 ID 목록으로 변환 (유효한 태그가 없으면 빈 목록)
+     */
+    private List<List<Long>> resolveTagIdsByCategory(List<String> tagNames) {
+        // 태그 사전에서 조회 후 카테고리별로 그룹화
+        Map<Long, List<Long>> tagIdsByCategory = tagNames.stream()
+                .map(tagDictionary::findByName)
+                .flatMap(Optional::stream)
+                .distinct()
+                .collect(Collectors.groupingBy(TagDictionary.TagEntry::getTagCategoryId,
+                        Collectors.mapping(TagDictionary.TagEntry::getTagId, Collectors.toList())));
+
+        if (tagIdsByCategory.isEmpty()) {
+            log.info("유효한 태그가 없습니다: tagNames={}", tagNames);
+            return Collections.emptyList();
+        }
 
-        // 태그 목록 추출
-        List<String> tags = post.getPostTagList().stream()
-                .map(PostTag::getTag)
-                .map(tag -> tag.getTagName())
+        log.info("카테고리별 태그 그룹화: {}", tagIdsByCategory.keySet());
+
+        return new ArrayList<>(tagIdsByCategory.values());
+    }
+
+    private String toCursor(LocalDateTime createdAt, Long postId) {
+        return new PostCursor(createdAt, postId).encode();
+    }
+
+    /**
+     * 게시글 카드 목록 조립
+     * 카드 수와 관계없이 이미지 1회, 태그 1회의 일괄 조회만 수행합니다.
+     */
+    private List<PostListResponseDto> assemblePostCards(List<PostCardProjection> cards) {
+        if (cards.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> postIds = cards.stream()
+                .map(PostCardProjection::getPostId)
                 .collect(Collectors.toList());
 
-        // 주소 가공: 시군구 + 법정동 이름
-        Address address = post.getAddress();
-        String formattedAddress = String.format("%s %s",
-                address.getSigungu() != null ? address.getSigungu() : "",
-                address.getBname2() != null ? address.getBname2() : "").trim();
+        // 대표 이미지 URL (썸네일 이미지 또는 첫 번째 이미지)
+        Map<Long, String> mainImageUrls = new HashMap<>();
+        Set<Long> thumbnailPostIds = new HashSet<>();
+        for (Object[] row : postRepository.findImagesByPostIds(postIds)) {
+            Long postId = (Long) row[0];
+            String imageUrl = (String) row[1];
+            boolean thumbnail = (Boolean) row[2];
 
-        return PostListResponseDto.builder()
-                .postId(post.getId())
-                .postTitle(post.getTitle())
-                .postMainImage(mainImageUrl)
-                .postAddress(formattedAddress)
-                .preferPrice(post.getPreferPrice())
-                .postTags(tags)
-                .build();
+            if (thumbnail && thumbnailPostIds.add(postId)) {
+                mainImageUrls.put(postId, imageUrl);
+            } else {
+                mainImageUrls.putIfAbsent(postId, imageUrl);
+            }
+        }
+
+        // 태그 목록
+        Map<Long, List<String>> tagNames = new HashMap<>();
+        for (Object[] row : postRepository.findTagNamesByPostIds(postIds)) {
+            tagNames.computeIfAbsent((Long) row[0], postId -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        return cards.stream()
+                .map(card -> PostListResponseDto.builder()
+                        .postId(card.getPostId())
+                        .postTitle(card.getPostTitle())
+                        .postMainImage(mainImageUrls.get(card.getPostId()))
+                        .postAddress(formatCardAddress(card))
+                        .preferPrice(card.getPreferPrice())
+                        .postTags(tagNames.getOrDefault(card.getPostId(), Collections.emptyList()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // 주소 가공: 시군구 + 법정동 이름
+    private String formatCardAddress(PostCardProjection card) {
+        return String.format("%s %s",
+                card.getSigungu() != null ? card.getSigungu() : "",
+                card.getBname2() != null ? card.getBname2() : "").trim();
     }
 
 
@@ -147,6 +299,11 @@ public class PostServiceImpl implements PostService {
         // 이미지 처리
         processMultipartImages(savedPost, requestDto.getMainImage(), requestDto.getDetailImages());
 
+        // 태그 색인 반영 (커밋 후)
+        postTagIndex.indexAfterCommit(savedPost);
+        geoSearchIndex.indexPostAfterCommit(savedPost);
+        locationHomeCache.invalidateAfterCommit(locationInfoIdOf(savedPost));
+
         return PostCreateResponseDto.builder()
                 .postId(savedPost.getId())
                 .build();
@@ -182,6 +339,15 @@ public class PostServiceImpl implements PostService {
         }
     }
 
+    // 게시글이 속한 위치 정보 ID (주소나 위치 정보가 없으면 null)
+    private Long locationInfoIdOf(Post post) {
+        Address address = post.getAddress();
+        if (address == null || address.getLocationInfo() == null) {
+            return null;
+        }
+        return address.getLocationInfo().getId();
+    }
+
     /**
      * 게시글 태그 처리 메소드
      */
@@ -191,22 +357,19 @@ public class PostServiceImpl implements PostService {
             throw new BusinessException(ErrorCode.INVALID_POST_TAGS);
         }
 
+        // 이미 연결된 태그 ID (중복 방지)
+        Set<Long> connectedTagIds = post.getPostTagList().stream()
+                .map(pt -> pt.getTag().getId())
+                .collect(Collectors.toCollection(HashSet::new));
+
         for (String tagName : tagNames) {
-            Tag tag = tagRepository.findByTagName(tagName)
-                    .orElseThrow(() -> {
-                        log.error("존재하지 않는 태그: {}", tagName);
-                        return new BusinessException(ErrorCode.TAG_NAME_NOT_FOUND);
-                    });
-
-            // 이미 연결된 태그인지 확인 (중복 방지)
-            boolean alreadyConnected = post.getPostTagList().stream()
-                    .anyMatch(pt -> pt.getTag().getId().equals(tag.getId()));
-
-            if (!alreadyConnected) {
-                // PostTag 연결 엔티티 생성
+            TagDictionary.TagEntry tag = findTagEntry(tagName);
+
+            if (connectedTagIds.add(tag.getTagId())) {
+                // PostTag 연결 엔티티 생성 (태그는 ID 참조만 사용하여 DB 조회 없음)
                 PostTag postTag = PostTag.builder()
                         .post(post)
-                        .tag(tag)
+                        .tag(tagRepository.getReferenceById(tag.getTagId()))
                         .build();
 
                 post.getPostTagList().add(postTag);
@@ -265,15 +428,32 @@ public class PostServiceImpl implements PostService {
      */
     @Override
     public PostDetailResponseDto getPostDetail(Long postId) {
-        // 게시글 조회
-        Post post = postRepository.findById(postId)
+        // 게시글 스냅샷 조회 (캐시 미스 시 DB에서 적재, 삭제된 게시글은 캐시하지 않음)
+        PostDetailSnapshot snapshot = postDetailCache.get(postId, this::loadPostDetailSnapshot);
+
+        // 현재 사용자 정보
+        Long userId = SecurityUtil.getCurrentUserId();
+
+        // 숨김 처리된 게시글인지 확인
+        if (snapshot.isHiddenStatus() && !snapshot.isKeeper(userId)) {
+            log.error("숨김 처리된 게시글이며 작성자가 아닙니다: postId={}, userId={}", postId, userId);
+            throw new BusinessException(ErrorCode.POST_NOT_FOUND);
+        }
+
+        // 수정 가능 여부는 조회자 기준으로 계산하여 DTO 생성
+        return snapshot.toResponse(userId);
+    }
+
+    /**
+     * 게시글 상세 스냅샷 적재 (캐시 미스 시)
+     */
+    private PostDetailSnapshot loadPostDetailSnapshot(Long postId) {
+        // 게시글 조회 (작성자·주소 함께 조회)
+        Post post = postRepository.findDetailById(postId)
                 .orElseThrow(() -> {
                     log.error("게시글을 찾을 수 없습니다: postId={}", postId);
                     return new BusinessException(ErrorCode.POST_NOT_FOUND);
                 });
-        // 게시글 작성자 정보 가져오기        
-        // 현재 사용자 정보
-        Long userId = SecurityUtil.getCurrentUserId();
 
         // 삭제된 게시글인지 확인
         if (post.isDeleted()) {
@@ -281,12 +461,6 @@ public class PostServiceImpl implements PostService {
             throw new BusinessException(ErrorCode.POST_NOT_FOUND);
         }
 
-        // 숨김 처리된 게시글인지 확인
-        if (post.isHiddenStatus() && !post.getUser().getId().equals(userId)) {
-            log.error("숨김 처리된 게시글이며 작성자가 아닙니다: postId={}, userId={}", postId, userId);
-            throw new BusinessException(ErrorCode.POST_NOT_FOUND);
-        }
-
         // 이미지 URL 목록 추출 - 썸네일 이미지를 첫 번째 위치에 배치
         List<String> imageUrls = new ArrayList<>();
 
@@ -308,22 +482,19 @@ public class PostServiceImpl implements PostService {
                 .map(Tag::getTagName)
                 .collect(Collectors.toList());
 
-
-
-        // DTO 생성 및 반환
         try {
-            // DTO 생성 및 반환
-            return PostDetailResponseDto.builder()
+            // 스냅샷 생성 (불변 목록으로 보관)
+            return PostDetailSnapshot.builder()
                     .postId(post.getId())
-                    .postImages(imageUrls)
+                    .keeperId(post.getUser() != null ? post.getUser().getId() : null)
+                    .postImages(List.copyOf(imageUrls))
                     .postTitle(post.getTitle())
-                    .postTags(tags)
+                    .postTags(List.copyOf(tags))
                     .preferPrice(post.getPreferPrice())
                     .postContent(post.getContent())
                     .postAddress(post.getAddress() != null ? post.getAddress().getAddress() : null)
                     .nickname(post.getUser() != null ? post.getUser().getNickname() : "알 수 없음")
                     .hiddenStatus(post.isHiddenStatus())
-                    .editable(post.getUser().getId().equals(userId))
                     .build();
         } catch (Exception e) {
             log.error("게시글 상세 정보 DTO 생성 중 오류 발생: {}", e.getMessage(), e);
@@ -378,6 +549,9 @@ public class PostServiceImpl implements PostService {
             throw new BusinessException(ErrorCode.NO_PERMISSION_TO_UPDATE);
         }
 
+        // 주소 변경 시 이전 동네 홈 스냅샷도 무효화하기 위해 기존 위치 보관
+        Long previousLocationInfoId = locationInfoIdOf(post);
+
         try {
             // 선택적으로 주소 업데이트
             if (requestDto.getPostAddressData() != null) {
@@ -423,6 +597,14 @@ public class PostServiceImpl implements PostService {
             }
 
             log.info("게시글 선택적 수정 완료: postId={}", postId);
+
+            // 태그 색인 반영 및 상세 캐시 무효화 (커밋 후)
+            postTagIndex.indexAfterCommit(post);
+            geoSearchIndex.indexPostAfterCommit(post);
+            discountLeaderboard.updateAfterCommit(post);
+            postDetailCache.invalidateAfterCommit(postId);
+            locationHomeCache.invalidateAfterCommit(previousLocationInfoId);
+            locationHomeCache.invalidateAfterCommit(locationInfoIdOf(post));
             
             return PostEditResponseDto.builder()
                     .postId(post.getId())
@@ -471,6 +653,17 @@ public class PostServiceImpl implements PostService {
         }
     }
 
+    /**
+     * 태그 사전에서 태그 이름으로 조회
+     */
+    private TagDictionary.TagEntry findTagEntry(String tagName) {
+        return tagDictionary.findByName(tagName)
+                .orElseThrow(() -> {
+                    log.error("존재하지 않는 태그: {}", tagName);
+                    return new BusinessException(ErrorCode.TAG_NAME_NOT_FOUND);
+                });
+    }
+
     /**
      * 게시글 태그 선택적 업데이트
      */
@@ -480,15 +673,11 @@ public class PostServiceImpl implements PostService {
 
         // 새로운 태그 연결 정보 추가
         for (String tagName : newTagNames) {
-            Tag tag = tagRepository.findByTagName(tagName)
-                    .orElseThrow(() -> {
-                        log.error("존재하지 않는 태그: {}", tagName);
-                        return new BusinessException(ErrorCode.TAG_NAME_NOT_FOUND);
-                    });
+            TagDictionary.TagEntry tag = findTagEntry(tagName);
 
             PostTag postTag = PostTag.builder()
                     .post(post)
-                    .tag(tag)
+                    .tag(tagRepository.getReferenceById(tag.getTagId()))
                     .build();
 
             post.getPostTagList().add(postTag);
@@ -626,6 +815,11 @@ public class PostServiceImpl implements PostService {
         try {
             // 소프트 딜리트 수행
             post.delete();
+            postTagIndex.indexAfterCommit(post);
+            geoSearchIndex.indexPostAfterCommit(post);
+            discountLeaderboard.updateAfterCommit(post);
+            postDetailCache.invalidateAfterCommit(postId);
+            locationHomeCache.invalidateAfterCommit(locationInfoIdOf(post));
             log.info("게시글 삭제 완료(소프트 딜리트): postId={}", postId);
         } catch (Exception e) {
             log.error("게시글 삭제 중 오류 발생: {}", e.getMessage(), e);
@@ -681,6 +875,11 @@ public class PostServiceImpl implements PostService {
         try {
             // 공개/비공개 상태 전환
             post.toggleHiddenStatus();
+            postTagIndex.indexAfterCommit(post);
+            geoSearchIndex.indexPostAfterCommit(post);
+            discountLeaderboard.updateAfterCommit(post);
+            postDetailCache.invalidateAfterCommit(postId);
+            locationHomeCache.invalidateAfterCommit(locationInfoIdOf(post));
             log.info("게시글 공개 상태 변경 완료: postId={}, 새 상태={}", postId, post.isHiddenStatus() ? "비공개" : "공개");
         } catch (Exception e) {
             log.error("게시글 공개 상태 변경 중 오류 발생: {}", e.getMessage(), e);
@@ -702,7 +901,7 @@ public class PostServiceImpl implements PostService {
 
         log.info("위치 ID 기반 게시글 ID 조회 시작: locationInfoId={}", locationInfoId);
         //locationInfoId로 동일한 cityDistrict를 가진 id 가져오기
-        List<Long> locationInfoIds = locationInfoRepository.findIdsInSameDistrict(locationInfoId);
+        List<Long> locationInfoIds = locationLookupTable.findIdsInSameDistrict(locationInfoId);
 
         if(locationInfoIds.isEmpty()){
             log.info("해당 dirstrict에 위치 정보가 없습니다: locationInfoId={}",locationInfoId);
@@ -740,25 +939,21 @@ public class PostServiceImpl implements PostService {
             throw new BusinessException(ErrorCode.INVALID_LOCATION_ID);
         }
 
-        List<Post> topDiscountedPosts = postRepository.findTopDiscountedPostsByLocationInfoId(locationInfoId);
+        // 동별 할인 순위표에서 상위 K개만 순회 (썸네일 URL 포함)
+        List<DealEntry> topDeals = discountLeaderboard.findTop(locationInfoId, PROMOTION_LIMIT);
 
-        if (topDiscountedPosts.isEmpty() || 
-            topDiscountedPosts.stream().allMatch(post -> post.getDiscountRate() == 0)) {
-            log.info("해당 지역의 할인 게시글이 없거나 모두 할인율이 0입니다: locationInfoId={}", locationInfoId);
+        if (topDeals.isEmpty()) {
+            log.info("해당 지역의 할인 게시글이 없습니다: locationInfoId={}", locationInfoId);
             return Collections.emptyList();
         }
 
         // DTO 변환
-        List<LocationDealResponseDto> dealResponses = topDiscountedPosts.stream()
-            .map(post -> LocationDealResponseDto.builder()
-                .id(post.getId())
-                .title(post.getTitle())
-                .discount(String.format("-%d%%", Math.round(post.getDiscountRate())))
-                .imageUrl(post.getImageList().stream()
-                    .filter(Image::isThumbnailStatus)
-                    .findFirst()
-                    .map(Image::getImageUrl)
-                    .orElse(null))
+        List<LocationDealResponseDto> dealResponses = topDeals.stream()
+            .map(deal -> LocationDealResponseDto.builder()
+                .id(deal.getPostId())
+                .title(deal.getTitle())
+                .discount(String.format("-%d%%", Math.round(deal.getDiscountRate())))
+                .imageUrl(deal.getThumbnailUrl())
                 .build())
             .collect(Collectors.toList());
 
@@ -767,30 +962,103 @@ public class PostServiceImpl implements PostService {
 
         return dealResponses;
     }
+
+    /**
+     * 좌표 반경 내 활성 게시글 조회 (가까운 순)
+     */
+    @Override
+    public List<NearbyPostResponseDto> getNearbyPosts(double latitude, double longitude, double radiusKm, int limit) {
+        geoSearchIndex.validateSearch(latitude, longitude, radiusKm, limit);
+
+        // 격자 색인에서 거리순 게시글 ID 조회 후 해당 게시글 카드만 일괄 조회
+        List<GeoHit> hits = geoSearchIndex.findNearbyPosts(latitude, longitude, radiusKm, limit);
+        if (hits.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, PostCardProjection> cardsById = postRepository.findActivePostCardsByIds(
+                        hits.stream().map(GeoHit::getId).collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(PostCardProjection::getPostId, card -> card));
+
+        return hits.stream()
+                .filter(hit -> cardsById.containsKey(hit.getId()))
+                .map(hit -> {
+                    PostCardProjection card = cardsById.get(hit.getId());
+                    return NearbyPostResponseDto.builder()
+                            .postId(card.getPostId())
+                            .postTitle(card.getPostTitle())
+                            .postAddress(formatCardAddress(card))
+                            .preferPrice(card.getPreferPrice())
+                            .distanceKm(GeoSearchIndex.roundDistance(hit.getDistanceKm()))
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
     // 내 보관소 조회
     @Override
     @Transactional(readOnly = true)
     public List<PostResponseDto> getMyPosts(Long userId, int offset, int limit) {
-        Pageable pageable = PageRequest.of(offset / limit, limit);
+        if (offset < 0 || limit <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_OFFSET_OR_LIMIT);
+        }
+
+        Pageable pageable = OffsetPageRequest.of(offset, limit);
         List<Post> posts = postRepository.findByUserId(userId, pageable);
 
         return posts.stream()
-                .map(post -> PostResponseDto.builder()
-                        .postId(post.getId())
-                        .postTitle(post.getTitle())
-                        .postMainImage(post.getImageList().stream()
-                                .filter(Image::isThumbnailStatus)
-                                .findFirst()
-                                .map(Image::getImageUrl)
-                                .orElse(null))
-                        .postAddress(post.getAddress().getSigungu() + " " + post.getAddress().getBname())
-                        .preferPrice(post.getPreferPrice())
-                        .hiddenStatus(post.isHiddenStatus())
-                        .createdAt(post.getCreatedAt())
-                        .build())
+                .map(this::convertToMyPostResponseDto)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 내 보관소 게시글 커서 기반 조회
+     */
+    @Override
+    public PostCursorPageResponseDto<PostResponseDto> getMyPostFeed(Long userId, String cursor, int limit) {
+        if (limit <= 0 || limit > MAX_FEED_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_OFFSET_OR_LIMIT);
+        }
+
+        PostCursor postCursor = PostCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 limit + 1 개 조회
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        List<Post> posts = postCursor == null
+                ? postRepository.findByUserId(userId, pageable)
+                : postRepository.findByUserIdBefore(userId, postCursor.getCreatedAt(), postCursor.getPostId(), pageable);
+
+        boolean hasNext = posts.size() > limit;
+        List<Post> pagePosts = hasNext ? posts.subList(0, limit) : posts;
+        String nextCursor = hasNext
+                ? toCursor(pagePosts.get(pagePosts.size() - 1).getCreatedAt(), pagePosts.get(pagePosts.size() - 1).getId())
+                : null;
+
+        return PostCursorPageResponseDto.<PostResponseDto>builder()
+                .posts(pagePosts.stream()
+                        .map(this::convertToMyPostResponseDto)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private PostResponseDto convertToMyPostResponseDto(Post post) {
+        return PostResponseDto.builder()
+                .postId(post.getId())
+                .postTitle(post.getTitle())
+                .postMainImage(post.getImageList().stream()
+                        .filter(Image::isThumbnailStatus)
+                        .findFirst()
+                        .map(Image::getImageUrl)
+                        .orElse(null))
+                .postAddress(post.getAddress().getSigungu() + " " + post.getAddress().getBname())
+                .preferPrice(post.getPreferPrice())
+                .hiddenStatus(post.isHiddenStatus())
+                .createdAt(post.getCreatedAt())
+                .build();
+    }
+
     /**
      * 카테고리별 태그 필터링 기반 게시글 목록 조회
      * 각 카테고리 내 태그는 OR 조건, 카테고리 간 태그는 AND 조건으로 필터링
@@ -810,73 +1078,26 @@ public class PostServiceImpl implements PostService {
         log.info("카테고리 기반 태그 필터링 시작: tags={}, offset={}, limit={}", tagNames, offset, limit);
         
         try {
-            // 1. 태그 이름 목록으로 태그 정보 조회
-            List<Tag> tags = tagRepository.findByTagNameIn(tagNames);
-            if (tags.isEmpty()) {
-                log.info("유효한 태그가 없습니다: tagNames={}", tagNames);
+            // 1. 태그 이름 목록을 카테고리별 태그 ID 목록으로 변환
+            List<List<Long>> tagIdsByCategory = resolveTagIdsByCategory(tagNames);
+            if (tagIdsByCategory.isEmpty()) {
                 return Collections.emptyList();
             }
-            
-            // 2. 태그를 카테고리별로 그룹화
-            Map<Long, List<Tag>> tagsByCategory = tags.stream()
-                    .collect(Collectors.groupingBy(Tag::getTagCategoryId));
-            
-            log.info("카테고리별 태그 그룹화: {}", tagsByCategory.keySet());
-            
-            // 3. 초기 결과 집합으로 사용할 게시글 ID 집합 (아직 미설정)
-            Set<Long> resultPostIds = null;
-            
-            // 4. 각 카테고리별로 OR 조건으로 게시글 찾고, 카테고리 간에는 AND 조건 적용
-            for (Map.Entry<Long, List<Tag>> entry : tagsByCategory.entrySet()) {
-                Long categoryId = entry.getKey();
-                List<Tag> categoryTags = entry.getValue();
-                
-                // 카테고리 내 태그 ID 목록
-                List<Long> categoryTagIds = categoryTags.stream()
-                        .map(Tag::getId)
-                        .collect(Collectors.toList());
-                
-                log.debug("카테고리 {} 태그 ID: {}", categoryId, categoryTagIds);
-                
-                // 카테고리 내 태그가 포함된 게시글 ID 조회 (OR 조건)
-                List<Long> categoryPostIds = postRepository.findPostIdsByTagIds(categoryTagIds);
-                
-                if (categoryPostIds.isEmpty()) {
-                    // 해당 카테고리의 태그를 가진 게시글이 없으면 최종 결과도 없음 (AND 조건)
-                    log.info("카테고리 {}의 태그를 가진 게시글이 없습니다", categoryId);
-                    return Collections.emptyList();
-                }
-                
-                // 결과 집합 초기화 또는 교집합 처리 (AND 조건)
-                if (resultPostIds == null) {
-                    resultPostIds = new HashSet<>(categoryPostIds);
-                } else {
-                    resultPostIds.retainAll(categoryPostIds); // 교집합 구하기
-                    
-                    // 교집합 이후 결과가 없으면 즉시 반환
-                    if (resultPostIds.isEmpty()) {
-                        log.info("모든 카테고리 조건을 만족하는 게시글이 없습니다");
-                        return Collections.emptyList();
-                    }
-                }
-            }
-            
-            // 결과가 없으면 빈 목록 반환
-            if (resultPostIds == null || resultPostIds.isEmpty()) {
+
+            // 2. 카테고리 내 OR, 카테고리 간 AND 조건을 태그 색인의 비트 연산으로 처리하고
+            //    최신순 페이지(offset/limit)까지 잘라낸 게시글 ID만 받아옴
+            List<Long> pagePostIds = postTagIndex.findPostIds(tagIdsByCategory, offset, limit);
+
+            if (pagePostIds.isEmpty()) {
                 log.info("필터링 조건을 만족하는 게시글이 없습니다");
                 return Collections.emptyList();
             }
-            
-            log.info("카테고리 필터링 후 게시글 수: {}", resultPostIds.size());
-            
-            // 5. 최종 결과 게시글 ID로 게시글 조회 (페이징 적용)
-            Pageable pageable = PageRequest.of(offset, limit);
-            List<Post> posts = postRepository.findByPostIds(new ArrayList<>(resultPostIds), pageable);
-            
-            // 6. 엔티티를 DTO로 변환
-            List<PostListResponseDto> result = posts.stream()
-                    .map(this::convertToPostResponseDto)
-                    .collect(Collectors.toList());
+
+            // 3. 해당 페이지 게시글 카드만 조회 후 색인 순서(최신순)로 정렬
+            List<PostCardProjection> cards = findPostCardsInOrder(pagePostIds);
+
+            // 4. 썸네일·태그 일괄 조회 후 DTO 조립
+            List<PostListResponseDto> result = assemblePostCards(cards);
             
             log.info("카테고리 기반 태그 필터링 완료: 결과 게시글 수={}", result.size());
             
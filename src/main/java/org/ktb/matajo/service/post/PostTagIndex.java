@@ -0,0 +1,244 @@
+package org.ktb.matajo.service.post;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ktb.matajo.entity.Post;
+import org.ktb.matajo.entity.PostTag;
+import org.ktb.matajo.repository.PostRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 태그 필터링용 메모리 색인
+ * 태그별 게시글 ID 비트맵과 활성(삭제·숨김 아님) 게시글 비트맵을 유지하여,
+ * 카테고리 내 OR / 카테고리 간 AND 조건을 비트 연산으로 처리합니다.
+ * 게시글 ID는 생성 순서대로 증가하므로 ID 내림차순 = 최신순으로 페이지를 잘라 DB 조회 전에 offset/limit 또는 커서를 적용합니다.
+ * 애플리케이션 시작 시 전체 색인을 만들고, 게시글 변경은 트랜잭션 커밋 후 반영하며,
+ * 다른 노드의 변경은 주기적 재구축으로 맞춥니다.
+ * 재구축의 DB 조회와 교체 사이에 반영된 변경은 기록해 두었다가 교체 후 다시 적용하여 유실되지 않도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostTagIndex {
+
+    private final PostRepository postRepository;
+
+    // 태그 ID -> 해당 태그가 달린 게시글 ID 비트맵
+    private final Map<Long, BitSet> postsByTag = new HashMap<>();
+
+    // 활성 게시글 ID 비트맵
+    private final BitSet activePosts = new BitSet();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 재구축 중 반영된 변경 기록 (쓰기 잠금 안에서만 접근, 재구축 중이 아니면 null)
+    private List<Runnable> updatesDuringRebuild;
+
+    private volatile boolean loaded = false;
+
+    /**
+     * 전체 색인 재구축 (시작 시 및 주기적으로 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${post.tag-index.rebuild-interval-ms:600000}",
+            initialDelayString = "${post.tag-index.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        startRecordingUpdates();
+        try {
+            List<Object[]> postTagPairs = postRepository.findAllPostTagIdPairs();
+            List<Long> activePostIds = postRepository.findActivePostIds();
+            swap(postTagPairs, activePostIds);
+        } finally {
+            stopRecordingUpdates();
+        }
+    }
+
+    private void swap(List<Object[]> postTagPairs, List<Long> activePostIds) {
+        Map<Long, BitSet> newPostsByTag = new HashMap<>();
+        for (Object[] pair : postTagPairs) {
+            int postId = toBitIndex((Long) pair[0]);
+            newPostsByTag.computeIfAbsent((Long) pair[1], tagId -> new BitSet()).set(postId);
+        }
+
+        BitSet newActivePosts = new BitSet();
+        activePostIds.forEach(postId -> newActivePosts.set(toBitIndex(postId)));
+
+        lock.writeLock().lock();
+        try {
+            postsByTag.clear();
+            postsByTag.putAll(newPostsByTag);
+            activePosts.clear();
+            activePosts.or(newActivePosts);
+            // DB 조회 이후 반영된 변경을 새 색인에 다시 적용
+            updatesDuringRebuild.forEach(Runnable::run);
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("태그 색인 재구축 완료: 태그 수={}, 활성 게시글 수={}", newPostsByTag.size(), newActivePosts.cardinality());
+    }
+
+    /**
+     * 카테고리별 태그 조건으로 활성 게시글 ID를 최신순으로 조회
+     *
+     * @param tagIdsByCategory 카테고리별 태그 ID 목록 (카테고리 내 OR, 카테고리 간 AND)
+     * @param skip 건너뛸 게시글 수
+     * @param limit 조회할 게시글 수
+     * @return 최신순 게시글 ID 목록
+     */
+    public List<Long> findPostIds(Collection<List<Long>> tagIdsByCategory, int skip, int limit) {
+        BitSet result = match(tagIdsByCategory);
+        return collectDescending(result, result.length() - 1, skip, limit);
+    }
+
+    /**
+     * 카테고리별 태그 조건으로 커서(게시글 ID)보다 오래된 활성 게시글 ID를 최신순으로 조회
+     *
+     * @param tagIdsByCategory 카테고리별 태그 ID 목록 (카테고리 내 OR, 카테고리 간 AND)
+     * @param beforePostId 커서 게시글 ID (이 ID 미만부터 조회)
+     * @param limit 조회할 게시글 수
+     * @return 최신순 게시글 ID 목록
+     */
+    public List<Long> findPostIdsBefore(Collection<List<Long>> tagIdsByCategory, Long beforePostId, int limit) {
+        BitSet result = match(tagIdsByCategory);
+        int start = Math.min(result.length(), toBitIndex(beforePostId)) - 1;
+        return collectDescending(result, start, 0, limit);
+    }
+
+    private BitSet match(Collection<List<Long>> tagIdsByCategory) {
+        ensureLoaded();
+
+        lock.readLock().lock();
+        try {
+            BitSet result = (BitSet) activePosts.clone();
+            for (List<Long> categoryTagIds : tagIdsByCategory) {
+                // 카테고리 내 태그는 OR
+                BitSet categoryPosts = new BitSet();
+                for (Long tagId : categoryTagIds) {
+                    BitSet tagPosts = postsByTag.get(tagId);
+                    if (tagPosts != null) {
+                        categoryPosts.or(tagPosts);
+                    }
+                }
+
+                // 카테고리 간은 AND
+                result.and(categoryPosts);
+                if (result.isEmpty()) {
+                    break;
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 최신순(ID 내림차순)으로 start 위치부터 skip 이후 limit 개만 추출
+    private List<Long> collectDescending(BitSet result, int start, int skip, int limit) {
+        List<Long> postIds = new ArrayList<>(limit);
+        if (start < 0) {
+            return postIds;
+        }
+
+        int skipped = 0;
+        for (int postId = result.previousSetBit(start); postId >= 0 && postIds.size() < limit;
+             postId = result.previousSetBit(postId - 1)) {
+            if (skipped++ < skip) {
+                continue;
+            }
+            postIds.add((long) postId);
+        }
+        return postIds;
+    }
+
+    /**
+     * 게시글 변경 사항을 트랜잭션 커밋 후 색인에 반영
+     */
+    public void indexAfterCommit(Post post) {
+        Long postId = post.getId();
+        Set<Long> tagIds = post.getPostTagList().stream()
+                .map(PostTag::getTag)
+                .map(tag -> tag.getId())
+                .collect(Collectors.toSet());
+        boolean active = !post.isDeleted() && !post.isHiddenStatus();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update(postId, tagIds, active);
+                }
+            });
+        } else {
+            update(postId, tagIds, active);
+        }
+    }
+
+    private void update(Long postId, Set<Long> tagIds, boolean active) {
+        lock.writeLock().lock();
+        try {
+            apply(postId, tagIds, active);
+            if (updatesDuringRebuild != null) {
+                updatesDuringRebuild.add(() -> apply(postId, tagIds, active));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void apply(Long postId, Set<Long> tagIds, boolean active) {
+        int bitIndex = toBitIndex(postId);
+        postsByTag.forEach((tagId, tagPosts) -> tagPosts.set(bitIndex, tagIds.contains(tagId)));
+        tagIds.forEach(tagId -> postsByTag.computeIfAbsent(tagId, id -> new BitSet()).set(bitIndex));
+        activePosts.set(bitIndex, active);
+    }
+
+    private void startRecordingUpdates() {
+        lock.writeLock().lock();
+        try {
+            updatesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void stopRecordingUpdates() {
+        lock.writeLock().lock();
+        try {
+            updatesDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private int toBitIndex(Long postId) {
+        return Math.toIntExact(postId);
+    }
+}
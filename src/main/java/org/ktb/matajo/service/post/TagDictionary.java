@@ -0,0 +1,113 @@
+package org.ktb.matajo.service.post;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ktb.matajo.entity.Tag;
+import org.ktb.matajo.repository.TagRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 태그 사전 (메모리)
+ * 태그는 거의 변하지 않는 작은 테이블이므로 시작 시 전체를 읽어 이름/ID 기준 불변 맵으로 보관하고,
+ * 게시글 작성·수정과 태그 필터링에서 DB 조회 없이 해시 조회로 태그를 찾습니다.
+ * 사전에 없는 이름은 DB에서 한 번 더 확인하고, 시작 이후 추가된 태그이면 사전을 즉시 갱신합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagDictionary {
+
+    private final TagRepository tagRepository;
+
+    // 교체 시점에만 바뀌는 불변 스냅샷
+    private volatile Snapshot snapshot;
+
+    /**
+     * 태그 사전 갱신 (시작 시 및 주기적으로 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${post.tag-dictionary.refresh-interval-ms:600000}",
+            initialDelayString = "${post.tag-dictionary.refresh-interval-ms:600000}")
+    public synchronized void refresh() {
+        List<Tag> tags = tagRepository.findAll();
+
+        Map<String, TagEntry> byName = new HashMap<>();
+        Map<Long, TagEntry> byId = new HashMap<>();
+        for (Tag tag : tags) {
+            TagEntry entry = new TagEntry(tag.getId(), tag.getTagName(), tag.getTagCategoryId());
+            byName.put(entry.getTagName(), entry);
+            byId.put(entry.getTagId(), entry);
+        }
+
+        snapshot = new Snapshot(Map.copyOf(byName), Map.copyOf(byId));
+        log.info("태그 사전 갱신 완료: 태그 수={}", byId.size());
+    }
+
+    /**
+     * 태그 이름으로 조회
+     */
+    public Optional<TagEntry> findByName(String tagName) {
+        if (tagName == null) {
+            return Optional.empty();
+        }
+
+        TagEntry entry = current().byName().get(tagName);
+        if (entry != null) {
+            return Optional.of(entry);
+        }
+
+        // 사전 갱신 이후 추가된 태그일 수 있으므로 DB 확인 후 있으면 사전 갱신
+        return tagRepository.findByTagName(tagName)
+                .map(tag -> {
+                    log.info("태그 사전에 없는 태그 발견, 사전을 갱신합니다: tagName={}", tagName);
+                    refresh();
+                    return new TagEntry(tag.getId(), tag.getTagName(), tag.getTagCategoryId());
+                });
+    }
+
+    /**
+     * 태그 ID로 조회
+     */
+    public Optional<TagEntry> findById(Long tagId) {
+        if (tagId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(current().byId().get(tagId));
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private record Snapshot(Map<String, TagEntry> byName, Map<Long, TagEntry> byId) {
+    }
+
+    /**
+     * 태그 사전 항목 (불변)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class TagEntry {
+        private final Long tagId;
+        private final String tagName;
+        private final Long tagCategoryId;
+    }
+}
@@ -1,9 +1,13 @@
 package org.ktb.matajo.service.storage;
 
+import org.ktb.matajo.dto.storage.NearbyStorageResponseDto;
 import org.ktb.matajo.dto.storage.StorageResponseDto;
 
 import java.util.List;
 
 public interface StorageService {
     List<StorageResponseDto> getStoragesByLocation(Long locationInfoId);
+
+    // 좌표 반경 내 보관소 조회 (가까운 순)
+    List<NearbyStorageResponseDto> getNearbyStorages(double latitude, double longitude, double radiusKm, int limit);
 }
@@ -2,15 +2,20 @@ package org.ktb.matajo.service.storage;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.ktb.matajo.dto.storage.NearbyStorageResponseDto;
 import org.ktb.matajo.dto.storage.StorageResponseDto;
 import org.ktb.matajo.entity.Storage;
 import org.ktb.matajo.global.error.code.ErrorCode;
 import org.ktb.matajo.global.error.exception.BusinessException;
 import org.ktb.matajo.repository.StorageRepository;
+import org.ktb.matajo.service.location.GeoGridIndex.GeoHit;
+import org.ktb.matajo.service.location.GeoSearchIndex;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -20,6 +25,7 @@ import java.util.stream.Collectors;
 public class StorageServiceImpl implements StorageService {
 
     private final StorageRepository storageRepository;
+    private final GeoSearchIndex geoSearchIndex;
 
     @Override
     public List<StorageResponseDto> getStoragesByLocation(Long locationInfoId) {
@@ -39,4 +45,32 @@ public class StorageServiceImpl implements StorageService {
                 .collect(Collectors.toList());
     }
 
-}
\ No newline at end of file
+    @Override
+    public List<NearbyStorageResponseDto> getNearbyStorages(double latitude, double longitude, double radiusKm, int limit) {
+        geoSearchIndex.validateSearch(latitude, longitude, radiusKm, limit);
+
+        // 격자 색인에서 거리순 보관소 ID 조회 후 해당 보관소만 일괄 조회
+        List<GeoHit> hits = geoSearchIndex.findNearbyStorages(latitude, longitude, radiusKm, limit);
+        if (hits.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Storage> storagesById = storageRepository.findAllById(
+                        hits.stream().map(GeoHit::getId).collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(Storage::getId, storage -> storage));
+
+        return hits.stream()
+                .filter(hit -> storagesById.containsKey(hit.getId()))
+                .map(hit -> {
+                    Storage s = storagesById.get(hit.getId());
+                    return new NearbyStorageResponseDto(
+                            s.getId(),
+                            s.getKakaoMapLink(),
+                            s.getName(),
+                            s.getAddress(),
+                            GeoSearchIndex.roundDistance(hit.getDistanceKm()));
+                })
+                .collect(Collectors.toList());
+    }
+
+}
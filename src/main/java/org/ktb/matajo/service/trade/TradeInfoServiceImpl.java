@@ -3,11 +3,11 @@ package org.ktb.matajo.service.trade;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.ktb.matajo.dto.chat.ChatMessageRequestDto;
-import org.ktb.matajo.dto.chat.ChatMessageResponseDto;
 import org.ktb.matajo.dto.trade.TradeInfoCurrentResponseDto;
 import org.ktb.matajo.dto.trade.TradeInfoListResponseDto;
 import org.ktb.matajo.dto.trade.TradeInfoRequestDto;
 import org.ktb.matajo.dto.trade.TradeInfoResponseDto;
+import org.ktb.matajo.entity.Address;
 import org.ktb.matajo.entity.ChatRoom;
 import org.ktb.matajo.entity.MessageType;
 import org.ktb.matajo.entity.Post;
@@ -19,9 +19,9 @@ import org.ktb.matajo.repository.ChatRoomRepository;
 import org.ktb.matajo.repository.TradeInfoRepository;
 import org.ktb.matajo.repository.UserRepository;
 import org.ktb.matajo.service.chat.ChatMessageService;
+import org.ktb.matajo.service.location.LocationHomeCache;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,7 +39,7 @@ public class TradeInfoServiceImpl implements TradeInfoService {
     private final ChatRoomRepository chatRoomRepository;
     private final TradeInfoRepository tradeInfoRepository;
     private final ChatMessageService chatMessageService;
-    private final SimpMessagingTemplate messagingTemplate; // WebSocket 메시지 전송을 위한 템플릿 추가
+    private final LocationHomeCache locationHomeCache;
 
     @Override
     @Transactional
@@ -76,6 +76,12 @@ public class TradeInfoServiceImpl implements TradeInfoService {
         log.info("거래 정보 생성 완료: id={}, 상품명={}, 채팅방ID={}",
                 savedTradeInfo.getId(), savedTradeInfo.getProductName(), chatRoom.getId());
 
+        // 해당 동네 홈 스냅샷의 최근 거래 내역 갱신 (커밋 후)
+        Address postAddress = chatRoom.getPost().getAddress();
+        if (postAddress != null && postAddress.getLocationInfo() != null) {
+            locationHomeCache.invalidateAfterCommit(postAddress.getLocationInfo().getId());
+        }
+
         // 거래 확정 메시지를 채팅방에 자동으로 전송
         // 메시지 전송 실패가 거래 생성 자체를 실패시키지 않도록 별도 메서드에서 처리
         sendTradeConfirmationMessage(chatRoom.getId(), userId);
@@ -100,14 +106,10 @@ public class TradeInfoServiceImpl implements TradeInfoService {
                 .messageType(MessageType.SYSTEM)
                 .build();
 
-        // 채팅 메시지 서비스를 통해 메시지 전송
+        // 채팅 메시지 서비스를 통해 메시지 저장 (실시간 전송은 거래 트랜잭션 커밋 후 아웃박스 릴레이가 처리)
         try {
-            ChatMessageResponseDto chatMessageResponseDto = chatMessageService.saveMessage(roomId, messageDto);
-            log.info("거래 확정 메시지 전송 완료: roomId={}, userId={}", roomId, userId);
-
-            // WebSocket을 통해 메시지 브로드캐스트 - 실시간 전송을 위한 핵심 코드
-            messagingTemplate.convertAndSend("/topic/chat/" + roomId, chatMessageResponseDto);
-            log.info("거래 확정 메시지 실시간 전송 완료: roomId={}", roomId);
+            chatMessageService.saveMessage(roomId, messageDto);
+            log.info("거래 확정 메시지 저장 완료: roomId={}, userId={}", roomId, userId);
         } catch (BusinessException e) {
             // 비즈니스 예외 발생 시 로그만 남기고 진행 (거래 생성은 성공해야 함)
             log.error("거래 확정 메시지 전송 중 비즈니스 예외 발생: {}", e.getMessage(), e);
@@ -0,0 +1,102 @@
+package org.ktb.matajo.util;
+
+/**
+ * 한글 자모 분해 유틸리티
+ * 완성형 음절을 호환 자모(ㄱ, ㅏ 등) 문자열로 분해하여, 입력 중인 조합 상태(예: "역사" -> "역삼")나
+ * 초성만 입력한 경우(예: "ㅇㅅ" -> "역삼동")도 부분 문자열 비교로 찾을 수 있게 합니다.
+ */
+public final class HangulUtils {
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 복합 모음은 입력 순서대로 분해 (예: ㅘ -> ㅗㅏ)
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    // 겹받침은 입력 순서대로 분해 (예: ㄺ -> ㄹㄱ)
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 호환 자모 중 복합 자모 분해표 (사용자가 ㄳ, ㅘ 등을 직접 입력한 경우)
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_DECOMPOSED = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private HangulUtils() {
+    }
+
+    /**
+     * 문자열을 자모 단위로 분해 (한글 외 문자는 그대로 유지)
+     */
+    public static String decompose(String text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (isSyllable(ch)) {
+                int offset = ch - SYLLABLE_BASE;
+                builder.append(CHOSEONG[offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)])
+                        .append(JUNGSEONG[(offset / JONGSEONG_COUNT) % JUNGSEONG_COUNT])
+                        .append(JONGSEONG[offset % JONGSEONG_COUNT]);
+            } else {
+                int compoundIndex = COMPOUND_JAMO.indexOf(ch);
+                if (compoundIndex >= 0) {
+                    builder.append(COMPOUND_JAMO_DECOMPOSED[compoundIndex]);
+                } else {
+                    builder.append(ch);
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 문자열의 초성만 추출 (한글 음절 외 문자는 그대로 유지)
+     */
+    public static String extractChoseong(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (isSyllable(ch)) {
+                builder.append(CHOSEONG[(ch - SYLLABLE_BASE) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+            } else {
+                builder.append(ch);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 자음(초성) 자모로만 이루어진 입력인지 확인 (예: "ㅇㅅㄷ")
+     */
+    public static boolean isChoseongOnly(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch < 'ㄱ' || ch > 'ㅎ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSyllable(char ch) {
+        return ch >= SYLLABLE_BASE && ch <= SYLLABLE_LAST;
+    }
+}
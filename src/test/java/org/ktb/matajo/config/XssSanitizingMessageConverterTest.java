@@ -0,0 +1,71 @@
+package org.ktb.matajo.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.ktb.matajo.dto.chat.ChatMessageRequestDto;
+import org.ktb.matajo.entity.MessageType;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+class XssSanitizingMessageConverterTest {
+
+  private final XssSanitizingMessageConverter converter =
+      new XssSanitizingMessageConverter(new ObjectMapper());
+
+  @Test
+  void escapesHtmlInTextMessages() {
+    ChatMessageRequestDto dto =
+        convert(
+            "{\"senderId\":1,\"content\":\"<script>alert(\\\"x\\\")</script> & 안녕\","
+                + "\"messageType\":\"TEXT\"}");
+
+    assertThat(dto.getSenderId()).isEqualTo(1L);
+    assertThat(dto.getContent())
+        .isEqualTo("&lt;script&gt;alert(&quot;x&quot;)&lt;/script&gt; &amp; 안녕");
+  }
+
+  @Test
+  void treatsMissingMessageTypeAsText() {
+    ChatMessageRequestDto dto = convert("{\"senderId\":1,\"content\":\"<b>굵게</b>\"}");
+
+    assertThat(dto.getMessageType()).isEqualTo(MessageType.TEXT);
+    assertThat(dto.getContent()).isEqualTo("&lt;b&gt;굵게&lt;/b&gt;");
+  }
+
+  @Test
+  void leavesPlainTextUntouched() {
+    ChatMessageRequestDto dto =
+        convert("{\"senderId\":1,\"content\":\"안녕하세요! 내일 3시에 뵐게요 :)\",\"messageType\":\"TEXT\"}");
+
+    assertThat(dto.getContent()).isEqualTo("안녕하세요! 내일 3시에 뵐게요 :)");
+  }
+
+  @Test
+  void doesNotEscapeNonTextMessages() {
+    ChatMessageRequestDto dto =
+        convert(
+            "{\"senderId\":1,\"content\":\"https://cdn.example.com/a.png?w=1&h=2\","
+                + "\"messageType\":\"IMAGE\"}");
+
+    assertThat(dto.getContent()).isEqualTo("https://cdn.example.com/a.png?w=1&h=2");
+  }
+
+  @Test
+  void ignoresOtherPayloadTypes() {
+    Message<byte[]> message = message("{\"value\":\"<b>\"}");
+
+    assertThat(converter.fromMessage(message, String.class)).isNull();
+  }
+
+  private ChatMessageRequestDto convert(String json) {
+    return (ChatMessageRequestDto)
+        converter.fromMessage(message(json), ChatMessageRequestDto.class);
+  }
+
+  private static Message<byte[]> message(String json) {
+    return MessageBuilder.withPayload(json.getBytes(StandardCharsets.UTF_8)).build();
+  }
+}
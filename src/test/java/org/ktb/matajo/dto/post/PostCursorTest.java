@@ -0,0 +1,71 @@
+package org.ktb.matajo.dto.post;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+import org.ktb.matajo.global.error.code.ErrorCode;
+import org.ktb.matajo.global.error.exception.BusinessException;
+
+class PostCursorTest {
+
+  @Test
+  void decodesWhatItEncodes() {
+    LocalDateTime createdAt = LocalDateTime.of(2025, 3, 15, 14, 30, 5, 123_456_000);
+
+    PostCursor decoded = PostCursor.decode(new PostCursor(createdAt, 123L).encode());
+
+    assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+    assertThat(decoded.getPostId()).isEqualTo(123L);
+  }
+
+  @Test
+  void roundTripsTimestampsWithoutSeconds() {
+    // LocalDateTime.toString()은 초가 0이면 생략하므로 해석도 같은 형식을 받아야 함
+    LocalDateTime createdAt = LocalDateTime.of(2025, 3, 15, 14, 30);
+
+    PostCursor decoded = PostCursor.decode(new PostCursor(createdAt, 7L).encode());
+
+    assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+    assertThat(decoded.getPostId()).isEqualTo(7L);
+  }
+
+  @Test
+  void encodesAsUnpaddedUrlSafeBase64() {
+    String cursor = new PostCursor(LocalDateTime.of(2025, 3, 15, 14, 30), 123L).encode();
+
+    assertThat(cursor).doesNotContain("=", "+", "/");
+    assertThat(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8))
+        .isEqualTo("2025-03-15T14:30_123");
+  }
+
+  @Test
+  void treatsMissingCursorAsFirstPage() {
+    assertThat(PostCursor.decode(null)).isNull();
+    assertThat(PostCursor.decode("")).isNull();
+    assertThat(PostCursor.decode("  ")).isNull();
+  }
+
+  @Test
+  void rejectsMalformedCursors() {
+    assertInvalid("not base64!");
+    assertInvalid(encode("2025-03-15T14:30"));
+    assertInvalid(encode("2025-03-15T14:30_abc"));
+    assertInvalid(encode("yesterday_123"));
+  }
+
+  private static void assertInvalid(String cursor) {
+    assertThatThrownBy(() -> PostCursor.decode(cursor))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+  }
+
+  private static String encode(String raw) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,49 @@
+package org.ktb.matajo.global.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+class OffsetPageRequestTest {
+
+  @Test
+  void keepsOffsetThatIsNotMultipleOfLimit() {
+    Pageable pageable = OffsetPageRequest.of(7, 5);
+
+    assertThat(pageable.getOffset()).isEqualTo(7);
+    assertThat(pageable.getPageSize()).isEqualTo(5);
+    assertThat(pageable.getPageNumber()).isEqualTo(1);
+    assertThat(pageable.getSort().isUnsorted()).isTrue();
+  }
+
+  @Test
+  void movesByLimitRows() {
+    Pageable pageable = OffsetPageRequest.of(7, 5);
+
+    assertThat(pageable.next().getOffset()).isEqualTo(12);
+    assertThat(pageable.previousOrFirst().getOffset()).isEqualTo(2);
+    assertThat(pageable.first().getOffset()).isZero();
+    assertThat(pageable.withPage(3).getOffset()).isEqualTo(15);
+    assertThat(pageable.next().getPageSize()).isEqualTo(5);
+  }
+
+  @Test
+  void previousNeverGoesBelowZero() {
+    Pageable pageable = OffsetPageRequest.of(3, 5);
+
+    assertThat(pageable.hasPrevious()).isTrue();
+    assertThat(pageable.previousOrFirst().getOffset()).isZero();
+    assertThat(OffsetPageRequest.of(0, 5).hasPrevious()).isFalse();
+    assertThat(OffsetPageRequest.of(0, 5).previousOrFirst().getOffset()).isZero();
+  }
+
+  @Test
+  void rejectsNegativeOffsetAndNonPositiveLimit() {
+    assertThatThrownBy(() -> OffsetPageRequest.of(-1, 5))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> OffsetPageRequest.of(0, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,224 @@
+package org.ktb.matajo.service.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.ktb.matajo.dto.chat.ChatMessageRequestDto;
+import org.ktb.matajo.entity.Address;
+import org.ktb.matajo.entity.ChatRoom;
+import org.ktb.matajo.entity.LocationInfo;
+import org.ktb.matajo.entity.OutboxEvent;
+import org.ktb.matajo.entity.Post;
+import org.ktb.matajo.entity.User;
+import org.ktb.matajo.entity.UserType;
+import org.ktb.matajo.repository.ChatRoomRepository;
+import org.ktb.matajo.repository.OutboxEventRepository;
+import org.ktb.matajo.repository.UserRepository;
+import org.ktb.matajo.service.outbox.OutboxEventPublisher;
+import org.ktb.matajo.service.outbox.OutboxRelay;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 그룹 커밋 저장 테스트 (Docker가 없으면 건너뜀)
+ *
+ * <p>워커를 시작하지 않고 적재한 뒤 stop()으로 호출 스레드에서 저장합니다. 커미터가 자체 트랜잭션을 커밋해야 하므로 테스트 트랜잭션은
+ * 사용하지 않습니다.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class ChatMessageGroupCommitFlushTest {
+
+  @Container @ServiceConnection
+  static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+  @Autowired private TestEntityManager entityManager;
+  @Autowired private ChatRoomRepository chatRoomRepository;
+  @Autowired private UserRepository userRepository;
+  @Autowired private OutboxEventRepository outboxEventRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private ChatMessageGroupCommitter committer;
+
+  private Long senderId;
+  private Long firstRoomId;
+  private Long secondRoomId;
+
+  @BeforeEach
+  void setUp() {
+    committer =
+        new ChatMessageGroupCommitter(
+            chatRoomRepository,
+            userRepository,
+            new OutboxEventPublisher(outboxEventRepository, mock(OutboxRelay.class)),
+            messagingTemplate,
+            jdbcTemplate,
+            transactionManager,
+            meterRegistry,
+            true,
+            1,
+            100,
+            100,
+            5,
+            10);
+
+    // 테스트 트랜잭션이 없으므로 준비 데이터는 별도 트랜잭션에서 커밋
+    new TransactionTemplate(transactionManager)
+        .executeWithoutResult(
+            status -> {
+              User keeper =
+                  entityManager.persist(
+                      User.builder()
+                          .kakaoId(1L)
+                          .nickname("keeper")
+                          .role(UserType.KEEPER)
+                          .keeperAgreement(true)
+                          .build());
+              User client =
+                  entityManager.persist(
+                      User.builder().kakaoId(2L).nickname("client").role(UserType.USER).build());
+              LocationInfo locationInfo =
+                  entityManager.persist(
+                      LocationInfo.builder()
+                          .originalName("역삼동")
+                          .latitude(new BigDecimal("37.500000"))
+                          .longitude(new BigDecimal("127.036000"))
+                          .cityDistrict("강남구")
+                          .build());
+              Address address =
+                  entityManager.persist(
+                      Address.builder()
+                          .sigungu("강남구")
+                          .bname2("역삼동")
+                          .locationInfo(locationInfo)
+                          .build());
+              Post post =
+                  entityManager.persist(
+                      Post.builder()
+                          .user(keeper)
+                          .title("게시글")
+                          .content("내용")
+                          .preferPrice(10000)
+                          .address(address)
+                          .build());
+
+              senderId = client.getId();
+              firstRoomId =
+                  entityManager.persist(ChatRoom.builder().user(client).post(post).build()).getId();
+              secondRoomId =
+                  entityManager.persist(ChatRoom.builder().user(client).post(post).build()).getId();
+            });
+  }
+
+  @AfterEach
+  void tearDown() {
+    meterRegistry.close();
+  }
+
+  @Test
+  void assignsContiguousIdsAndSeqsInSubmitOrderPerRoom() {
+    for (int i = 1; i <= 5; i++) {
+      committer.submit(firstRoomId, text("first-" + i));
+      committer.submit(secondRoomId, text("second-" + i));
+    }
+
+    committer.stop();
+
+    // 한 번의 다중 행 INSERT로 저장되므로 채팅방 내 메시지 ID도 빈자리 없이 연속
+    assertContiguousIds(
+        assertRoomMessages(firstRoomId, "first-1", "first-2", "first-3", "first-4", "first-5"));
+    assertContiguousIds(
+        assertRoomMessages(
+            secondRoomId, "second-1", "second-2", "second-3", "second-4", "second-5"));
+    assertThat(meterRegistry.counter("chat.group.commit.retried").count()).isZero();
+  }
+
+  @Test
+  void retriesRemainingMessagesWhenOneRowFails() {
+    committer.submit(firstRoomId, text("first-1"));
+    committer.submit(secondRoomId, text("second-1"));
+    // 내용이 없는 메시지는 NOT NULL 제약으로 다중 행 INSERT 전체를 실패시킴
+    committer.submit(firstRoomId, text(null));
+    committer.submit(firstRoomId, text("first-2"));
+    committer.submit(secondRoomId, text("second-2"));
+
+    committer.stop();
+
+    // 실패한 메시지의 순번 발급도 함께 롤백되므로 남은 메시지의 순번에 빈자리가 없어야 함
+    assertRoomMessages(firstRoomId, "first-1", "first-2");
+    assertRoomMessages(secondRoomId, "second-1", "second-2");
+    assertThat(meterRegistry.counter("chat.group.commit.retried").count()).isEqualTo(5.0);
+    assertThat(meterRegistry.counter("chat.group.commit.failed").count()).isEqualTo(1.0);
+    verify(messagingTemplate)
+        .convertAndSendToUser(eq(senderId.toString()), eq("/queue/errors"), any(Object.class));
+  }
+
+  // 채팅방 메시지의 ID·순번이 적재 순서대로 연속이고, 마지막 메시지와 아웃박스 이벤트가 함께 기록되었는지 확인
+  private List<MessageRow> assertRoomMessages(Long roomId, String... contents) {
+    List<MessageRow> rows =
+        jdbcTemplate.query(
+            "SELECT id, seq, content FROM chat_message WHERE room_id = ? ORDER BY id",
+            (rs, rowNum) ->
+                new MessageRow(rs.getLong("id"), rs.getLong("seq"), rs.getString("content")),
+            roomId);
+
+    assertThat(rows).extracting(MessageRow::content).containsExactly(contents);
+    for (int i = 0; i < rows.size(); i++) {
+      assertThat(rows.get(i).seq()).isEqualTo(i + 1L);
+      if (i > 0) {
+        assertThat(rows.get(i).id()).isGreaterThan(rows.get(i - 1).id());
+      }
+    }
+
+    MessageRow newest = rows.get(rows.size() - 1);
+    ChatRoom room = chatRoomRepository.findById(roomId).orElseThrow();
+    assertThat(room.getLastMessageId()).isEqualTo(newest.id());
+    assertThat(room.getLastMessageContent()).isEqualTo(newest.content());
+    assertThat(room.getLastMessageSeq()).isEqualTo(rows.size());
+
+    assertThat(outboxEventRepository.findAll())
+        .filteredOn(event -> event.getAggregateId().equals(roomId))
+        .extracting(OutboxEvent::getId)
+        .hasSize(rows.size())
+        .isSorted();
+    return rows;
+  }
+
+  private static void assertContiguousIds(List<MessageRow> rows) {
+    for (int i = 1; i < rows.size(); i++) {
+      assertThat(rows.get(i).id()).isEqualTo(rows.get(i - 1).id() + 1);
+    }
+  }
+
+  private ChatMessageRequestDto text(String content) {
+    return ChatMessageRequestDto.builder().senderId(senderId).content(content).build();
+  }
+
+  private record MessageRow(long id, long seq, String content) {}
+}
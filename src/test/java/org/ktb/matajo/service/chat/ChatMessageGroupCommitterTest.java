@@ -0,0 +1,115 @@
+package org.ktb.matajo.service.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.ktb.matajo.dto.chat.ChatMessageRequestDto;
+import org.ktb.matajo.entity.MessageType;
+import org.ktb.matajo.global.error.code.ErrorCode;
+import org.ktb.matajo.global.error.exception.BusinessException;
+import org.ktb.matajo.repository.ChatRoomRepository;
+import org.ktb.matajo.repository.UserRepository;
+import org.ktb.matajo.service.outbox.OutboxEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/** 그룹 커밋 적재 동작 테스트 (워커를 시작하지 않아 큐에 적재된 메시지는 그대로 남음) */
+class ChatMessageGroupCommitterTest {
+
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private ChatMessageGroupCommitter committer;
+
+  @AfterEach
+  void tearDown() {
+    meterRegistry.close();
+  }
+
+  @Test
+  void disabledCommitterLeavesMessageToCaller() {
+    committer = committer(false, 1);
+
+    assertThat(committer.submit(1L, text("안녕하세요"))).isFalse();
+    verifyNoInteractions(jdbcTemplate);
+  }
+
+  @Test
+  void queuesMessagesUntilShardIsFull() {
+    committer = committer(true, 2);
+
+    assertThat(committer.submit(1L, text("첫 번째"))).isTrue();
+    assertThat(committer.submit(1L, text("두 번째"))).isTrue();
+    verifyNoInteractions(jdbcTemplate);
+  }
+
+  @Test
+  void rejectsInsteadOfBypassingFullQueue() {
+    committer = committer(true, 1);
+    committer.submit(1L, text("첫 번째"));
+
+    // 동기 저장으로 우회하면 큐에 남은 같은 채팅방 메시지보다 먼저 저장되므로 거절해야 함
+    assertThatThrownBy(() -> committer.submit(1L, text("두 번째")))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_REQUESTS);
+    verifyNoInteractions(jdbcTemplate);
+    assertThat(meterRegistry.counter("chat.group.commit.rejected").count()).isEqualTo(1.0);
+  }
+
+  @Test
+  void rejectsMessagesWhileStopping() {
+    committer = committer(true, 1);
+    committer.stop();
+
+    assertThatThrownBy(() -> committer.submit(1L, text("종료 중")))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_REQUESTS);
+    verifyNoInteractions(jdbcTemplate);
+  }
+
+  @Test
+  void validatesRoomIdAndImageContent() {
+    committer = committer(true, 1);
+
+    assertThatThrownBy(() -> committer.submit(0L, text("내용")))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+    assertThatThrownBy(
+            () ->
+                committer.submit(
+                    1L,
+                    ChatMessageRequestDto.builder()
+                        .senderId(1L)
+                        .content(" ")
+                        .messageType(MessageType.IMAGE)
+                        .build()))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_IMAGE_CONTENT);
+  }
+
+  private ChatMessageGroupCommitter committer(boolean enabled, int queueCapacity) {
+    return new ChatMessageGroupCommitter(
+        mock(ChatRoomRepository.class),
+        mock(UserRepository.class),
+        mock(OutboxEventPublisher.class),
+        mock(SimpMessagingTemplate.class),
+        jdbcTemplate,
+        mock(PlatformTransactionManager.class),
+        meterRegistry,
+        enabled,
+        1,
+        queueCapacity,
+        100,
+        5,
+        10);
+  }
+
+  private static ChatMessageRequestDto text(String content) {
+    return ChatMessageRequestDto.builder().senderId(1L).content(content).build();
+  }
+}
@@ -0,0 +1,117 @@
+package org.ktb.matajo.service.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.ktb.matajo.global.error.exception.BusinessException;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/** Redis 접속 상태 저장소 테스트 (Docker가 없으면 건너뜀) */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisChatSessionServiceTest {
+
+  @Container
+  static final GenericContainer<?> REDIS =
+      new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+  private static LettuceConnectionFactory connectionFactory;
+  private static StringRedisTemplate redisTemplate;
+
+  @BeforeAll
+  static void connect() {
+    connectionFactory =
+        new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+    connectionFactory.afterPropertiesSet();
+    connectionFactory.start();
+    redisTemplate = new StringRedisTemplate(connectionFactory);
+  }
+
+  @AfterAll
+  static void disconnect() {
+    connectionFactory.destroy();
+  }
+
+  @BeforeEach
+  void flush() {
+    redisTemplate.execute(
+        connection -> {
+          connection.serverCommands().flushAll();
+          return null;
+        },
+        true);
+  }
+
+  @Test
+  void joinedUsersAreActiveUntilTheyLeave() {
+    RedisChatSessionService presence = new RedisChatSessionService(redisTemplate, 120);
+
+    presence.userJoinedRoom(1L, 10L);
+    presence.userJoinedRoom(1L, 20L);
+    presence.userJoinedRoom(2L, 10L);
+
+    assertThat(presence.getActiveUsersInRoom(1L)).containsExactlyInAnyOrder(10L, 20L);
+    assertThat(presence.isUserActiveInRoom(1L, 20L)).isTrue();
+
+    presence.userLeftRoom(1L, 20L);
+
+    assertThat(presence.getActiveUsersInRoom(1L)).containsExactly(10L);
+    assertThat(presence.isUserActiveInRoom(1L, 20L)).isFalse();
+    assertThat(presence.isUserActiveInRoom(2L, 10L)).isTrue();
+  }
+
+  @Test
+  void presenceIsSharedAcrossNodes() {
+    RedisChatSessionService nodeA = new RedisChatSessionService(redisTemplate, 120);
+    RedisChatSessionService nodeB = new RedisChatSessionService(redisTemplate, 120);
+
+    nodeA.userJoinedRoom(1L, 10L);
+
+    assertThat(nodeB.isUserActiveInRoom(1L, 10L)).isTrue();
+    assertThat(nodeB.getActiveUsersInRoom(1L)).containsExactly(10L);
+  }
+
+  @Test
+  void presenceExpiresWithoutHeartbeatAndHeartbeatRestoresIt() throws InterruptedException {
+    RedisChatSessionService presence = new RedisChatSessionService(redisTemplate, 1);
+
+    presence.userJoinedRoom(1L, 10L);
+    Thread.sleep(1_200);
+
+    assertThat(presence.isUserActiveInRoom(1L, 10L)).isFalse();
+    assertThat(presence.getActiveUsersInRoom(1L)).isEmpty();
+
+    presence.refreshPresence(1L, 10L);
+
+    assertThat(presence.isUserActiveInRoom(1L, 10L)).isTrue();
+  }
+
+  @Test
+  void unknownRoomHasNoActiveUsers() {
+    RedisChatSessionService presence = new RedisChatSessionService(redisTemplate, 120);
+
+    assertThat(presence.getActiveUsersInRoom(99L)).isEmpty();
+    assertThat(presence.isUserActiveInRoom(99L, 10L)).isFalse();
+    assertThat(presence.isUserActiveInRoom(null, 10L)).isFalse();
+  }
+
+  @Test
+  void invalidIdsAreRejected() {
+    RedisChatSessionService presence = new RedisChatSessionService(redisTemplate, 120);
+
+    assertThatThrownBy(() -> presence.userJoinedRoom(0L, 10L))
+        .isInstanceOf(BusinessException.class);
+    assertThatThrownBy(() -> presence.userJoinedRoom(1L, null))
+        .isInstanceOf(BusinessException.class);
+  }
+}
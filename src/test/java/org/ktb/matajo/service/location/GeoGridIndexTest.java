@@ -0,0 +1,97 @@
+package org.ktb.matajo.service.location;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.ktb.matajo.service.location.GeoGridIndex.GeoHit;
+import org.ktb.matajo.service.location.GeoGridIndex.GeoPoint;
+
+class GeoGridIndexTest {
+
+  @Test
+  void findsPointsInNeighbouringCellsAcrossCellCorner() {
+    // 중심과 점이 셀(0.01도) 모서리를 사이에 두고 위도·경도 모두 다른 셀에 위치
+    GeoGridIndex index =
+        GeoGridIndex.build(
+            List.of(
+                new GeoPoint(1L, 37.5001, 127.0501),
+                new GeoPoint(2L, 37.4998, 127.0501),
+                new GeoPoint(3L, 37.5001, 127.0498)));
+
+    List<GeoHit> hits = index.searchWithin(37.4999, 127.0499, 0.1, 10);
+
+    assertThat(hits).extracting(GeoHit::getId).containsExactlyInAnyOrder(1L, 2L, 3L);
+  }
+
+  @Test
+  void findsPointsAcrossZeroLatitudeAndLongitude() {
+    // 음수 좌표는 내림(floor)으로 셀이 나뉘므로 0도를 사이에 둔 점도 이웃 셀로 확인해야 함
+    GeoGridIndex index = GeoGridIndex.build(List.of(new GeoPoint(1L, 0.00005, 0.00005)));
+
+    List<GeoHit> hits = index.searchWithin(-0.00005, -0.00005, 0.05, 10);
+
+    assertThat(hits).extracting(GeoHit::getId).containsExactly(1L);
+  }
+
+  @Test
+  void coversCellsSeveralStepsAwayWhenRadiusSpansThem() {
+    // 북쪽 약 2.5km (셀 두 칸 이상 떨어짐)
+    GeoGridIndex index = GeoGridIndex.build(List.of(new GeoPoint(1L, 37.5225, 127.0)));
+
+    assertThat(index.searchWithin(37.5, 127.0, 3.0, 10))
+        .extracting(GeoHit::getId)
+        .containsExactly(1L);
+    assertThat(index.searchWithin(37.5, 127.0, 2.0, 10)).isEmpty();
+  }
+
+  @Test
+  void widensLongitudeRangeByLatitude() {
+    // 위도 37.5도에서 경도 0.03도는 약 2.65km로, 경도 폭을 위도로 보정하지 않으면 경계 상자 밖의 셀에 있음
+    GeoGridIndex index = GeoGridIndex.build(List.of(new GeoPoint(1L, 37.5, 127.03)));
+
+    List<GeoHit> hits = index.searchWithin(37.5, 127.0, 3.0, 10);
+
+    assertThat(hits).extracting(GeoHit::getId).containsExactly(1L);
+    assertThat(hits.get(0).getDistanceKm()).isCloseTo(2.65, within(0.01));
+  }
+
+  @Test
+  void excludesPointsInScannedCellsOutsideRadius() {
+    // 같은 셀에 있지만 반경 밖인 점은 거리로 걸러짐
+    GeoGridIndex index =
+        GeoGridIndex.build(
+            List.of(new GeoPoint(1L, 37.5001, 127.0001), new GeoPoint(2L, 37.5009, 127.0009)));
+
+    List<GeoHit> hits = index.searchWithin(37.5001, 127.0001, 0.05, 10);
+
+    assertThat(hits).extracting(GeoHit::getId).containsExactly(1L);
+  }
+
+  @Test
+  void sortsByDistanceThenIdAndAppliesLimit() {
+    GeoGridIndex index =
+        GeoGridIndex.build(
+            List.of(
+                new GeoPoint(5L, 37.51, 127.0),
+                new GeoPoint(4L, 37.51, 127.0),
+                new GeoPoint(3L, 37.505, 127.0),
+                new GeoPoint(2L, 37.5, 127.0)));
+
+    List<GeoHit> hits = index.searchWithin(37.5, 127.0, 5.0, 3);
+
+    // 4번과 5번은 같은 위치(같은 거리)이므로 ID순
+    assertThat(hits).extracting(GeoHit::getId).containsExactly(2L, 3L, 4L);
+    assertThat(hits.get(0).getDistanceKm()).isZero();
+  }
+
+  @Test
+  void emptyIndexFindsNothing() {
+    GeoGridIndex index = GeoGridIndex.empty();
+
+    assertThat(index.size()).isZero();
+    assertThat(index.searchWithin(37.5, 127.0, 10.0, 10)).isEmpty();
+    assertThat(GeoGridIndex.build(List.of(new GeoPoint(1L, 37.5, 127.0))).size()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,82 @@
+package org.ktb.matajo.service.location;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.ktb.matajo.repository.LocationInfoRepository;
+
+class LocationAutocompleteIndexTest {
+
+  private LocationAutocompleteIndex index;
+
+  @BeforeEach
+  void setUp() {
+    LocationInfoRepository locationInfoRepository = mock(LocationInfoRepository.class);
+    // 색인은 조회 순서와 관계없이 표시 이름순으로 정렬해야 함
+    when(locationInfoRepository.findAllDisplayNames())
+        .thenReturn(
+            List.of(
+                row("역삼동", "강남구"),
+                row("삼성동", "강남구"),
+                row("동선동", "성북구"),
+                row("신사동", "강남구"),
+                row("역삼1동", "강남구"),
+                row("논현동", "강남구"),
+                row("대치동", "강남구")));
+    index = new LocationAutocompleteIndex(locationInfoRepository);
+  }
+
+  @Test
+  void returnsPrefixMatchesBeforeInfixMatches() {
+    assertThat(index.search("삼", 10))
+        .containsExactly("서울 강남구 삼성동", "서울 강남구 역삼1동", "서울 강남구 역삼동");
+  }
+
+  @Test
+  void prefixMatchOutranksInfixMatchWithEarlierName() {
+    // 논현동은 이름순으로 동선동보다 앞서지만 중간 일치이므로 뒤에 위치
+    assertThat(index.search("동", 10))
+        .containsExactly(
+            "서울 성북구 동선동",
+            "서울 강남구 논현동",
+            "서울 강남구 대치동",
+            "서울 강남구 삼성동",
+            "서울 강남구 신사동",
+            "서울 강남구 역삼1동",
+            "서울 강남구 역삼동");
+  }
+
+  @Test
+  void appliesLimitAfterRanking() {
+    assertThat(index.search("동", 2)).containsExactly("서울 성북구 동선동", "서울 강남구 논현동");
+    assertThat(index.search("삼", 1)).containsExactly("서울 강남구 삼성동");
+  }
+
+  @Test
+  void matchesInputWhileSyllableIsBeingComposed() {
+    assertThat(index.search("역사", 10)).containsExactly("서울 강남구 역삼1동", "서울 강남구 역삼동");
+    assertThat(index.search(" 역삼ㄷ ", 10)).containsExactly("서울 강남구 역삼동");
+  }
+
+  @Test
+  void searchesChoseongWhenOnlyConsonantsAreTyped() {
+    assertThat(index.search("ㅅㅅ", 10)).containsExactly("서울 강남구 삼성동", "서울 강남구 신사동");
+    assertThat(index.search("ㅅㄷ", 10))
+        .containsExactly(
+            "서울 성북구 동선동", "서울 강남구 삼성동", "서울 강남구 신사동", "서울 강남구 역삼동");
+  }
+
+  @Test
+  void returnsNothingForBlankOrUnknownTerms() {
+    assertThat(index.search("  ", 10)).isEmpty();
+    assertThat(index.search("부산", 10)).isEmpty();
+  }
+
+  private static Object[] row(String displayName, String district) {
+    return new Object[] {displayName, "서울 " + district + " " + displayName};
+  }
+}
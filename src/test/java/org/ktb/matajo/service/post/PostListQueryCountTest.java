@@ -0,0 +1,155 @@
+package org.ktb.matajo.service.post;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.ktb.matajo.dto.post.PostListResponseDto;
+import org.ktb.matajo.entity.Address;
+import org.ktb.matajo.entity.Image;
+import org.ktb.matajo.entity.LocationInfo;
+import org.ktb.matajo.entity.Post;
+import org.ktb.matajo.entity.PostTag;
+import org.ktb.matajo.entity.Tag;
+import org.ktb.matajo.entity.User;
+import org.ktb.matajo.entity.UserType;
+import org.ktb.matajo.repository.PostRepository;
+import org.ktb.matajo.repository.TagRepository;
+import org.ktb.matajo.repository.UserRepository;
+import org.ktb.matajo.service.location.GeoSearchIndex;
+import org.ktb.matajo.service.location.LocationHomeCache;
+import org.ktb.matajo.service.location.LocationLookupTable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 게시글 목록 카드 조립 쿼리 수 테스트 (Docker가 없으면 건너뜀)
+ *
+ * <p>카드 수와 관계없이 카드 1회, 이미지 1회, 태그 1회의 쿼리만 실행되어야 합니다.
+ */
+@DataJpaTest(
+    properties = {
+      "spring.jpa.hibernate.ddl-auto=create-drop",
+      "spring.jpa.properties.hibernate.generate_statistics=true"
+    })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class PostListQueryCountTest {
+
+  private static final int POST_COUNT = 12;
+
+  @Container @ServiceConnection
+  static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+  @Autowired private TestEntityManager entityManager;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+  @Autowired private PostRepository postRepository;
+
+  private PostServiceImpl postService;
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    // 목록 조회는 PostRepository만 사용하므로 나머지 의존성은 목으로 대체
+    postService =
+        new PostServiceImpl(
+            postRepository,
+            mock(TagRepository.class),
+            mock(UserRepository.class),
+            mock(AddressService.class),
+            mock(PostTagIndex.class),
+            mock(PostDetailCache.class),
+            mock(TagDictionary.class),
+            mock(GeoSearchIndex.class),
+            mock(DiscountLeaderboard.class),
+            mock(LocationLookupTable.class),
+            mock(LocationHomeCache.class));
+
+    User keeper =
+        entityManager.persist(
+            User.builder()
+                .kakaoId(1L)
+                .nickname("keeper")
+                .role(UserType.KEEPER)
+                .keeperAgreement(true)
+                .build());
+    LocationInfo locationInfo =
+        entityManager.persist(
+            LocationInfo.builder()
+                .originalName("역삼동")
+                .latitude(new BigDecimal("37.500000"))
+                .longitude(new BigDecimal("127.036000"))
+                .cityDistrict("강남구")
+                .build());
+    Tag indoor = entityManager.persist(Tag.builder().tagName("실내").tagCategoryId(1L).build());
+    Tag parcel = entityManager.persist(Tag.builder().tagName("택배").tagCategoryId(2L).build());
+
+    for (int i = 0; i < POST_COUNT; i++) {
+      Address address =
+          entityManager.persist(
+              Address.builder()
+                  .sigungu("강남구")
+                  .bname2("역삼동")
+                  .locationInfo(locationInfo)
+                  .build());
+      Post post =
+          entityManager.persist(
+              Post.builder()
+                  .user(keeper)
+                  .title("게시글 " + i)
+                  .content("내용")
+                  .preferPrice(10000)
+                  .address(address)
+                  .build());
+      entityManager.persist(
+          Image.builder().post(post).imageUrl("image-" + i + "-a").thumbnailStatus(false).build());
+      entityManager.persist(
+          Image.builder().post(post).imageUrl("image-" + i + "-b").thumbnailStatus(true).build());
+      entityManager.persist(PostTag.builder().post(post).tag(indoor).build());
+      entityManager.persist(PostTag.builder().post(post).tag(parcel).build());
+    }
+    entityManager.flush();
+    entityManager.clear();
+
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 5, POST_COUNT})
+  void postListPageCostsThreeStatementsRegardlessOfSize(int limit) {
+    List<PostListResponseDto> posts = postService.getPostList(0, limit);
+
+    assertThat(posts).hasSize(limit);
+    assertThat(posts)
+        .allSatisfy(
+            post -> {
+              assertThat(post.getPostMainImage()).endsWith("-b");
+              assertThat(post.getPostTags()).containsExactly("실내", "택배");
+            });
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 5, POST_COUNT})
+  void postFeedPageCostsThreeStatementsRegardlessOfSize(int limit) {
+    List<PostListResponseDto> posts = postService.getPostFeed(null, null, limit).getPosts();
+
+    assertThat(posts).hasSize(limit);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+  }
+}
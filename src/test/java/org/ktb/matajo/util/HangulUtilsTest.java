@@ -0,0 +1,58 @@
+package org.ktb.matajo.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class HangulUtilsTest {
+
+  @Test
+  void decomposesSyllablesIntoCompatibilityJamo() {
+    assertThat(HangulUtils.decompose("역삼")).isEqualTo("ㅇㅕㄱㅅㅏㅁ");
+    assertThat(HangulUtils.decompose("가")).isEqualTo("ㄱㅏ");
+    assertThat(HangulUtils.decompose("힣")).isEqualTo("ㅎㅣㅎ");
+  }
+
+  @Test
+  void decomposesCompoundVowelsAndFinalsInTypingOrder() {
+    assertThat(HangulUtils.decompose("과")).isEqualTo("ㄱㅗㅏ");
+    assertThat(HangulUtils.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+    assertThat(HangulUtils.decompose("의")).isEqualTo("ㅇㅡㅣ");
+  }
+
+  @Test
+  void decomposesCompoundJamoTypedDirectly() {
+    assertThat(HangulUtils.decompose("ㄺ")).isEqualTo("ㄹㄱ");
+    assertThat(HangulUtils.decompose("ㅘ")).isEqualTo("ㅗㅏ");
+    assertThat(HangulUtils.decompose("ㅇ")).isEqualTo("ㅇ");
+  }
+
+  @Test
+  void keepsNonHangulCharacters() {
+    assertThat(HangulUtils.decompose("역삼1동 A")).isEqualTo("ㅇㅕㄱㅅㅏㅁ1ㄷㅗㅇ A");
+    assertThat(HangulUtils.decompose("")).isEmpty();
+  }
+
+  @Test
+  void composingInputIsPrefixOfDecomposedName() {
+    // "역삼"을 입력하는 도중의 "역사"도 자모 단위로는 접두사가 됨
+    assertThat(HangulUtils.decompose("역삼동")).startsWith(HangulUtils.decompose("역사"));
+    assertThat(HangulUtils.decompose("역삼동")).startsWith(HangulUtils.decompose("역삼ㄷ"));
+  }
+
+  @Test
+  void extractsChoseongOfSyllablesOnly() {
+    assertThat(HangulUtils.extractChoseong("역삼동")).isEqualTo("ㅇㅅㄷ");
+    assertThat(HangulUtils.extractChoseong("쌍문1동")).isEqualTo("ㅆㅁ1ㄷ");
+    assertThat(HangulUtils.extractChoseong("ㅇ삼")).isEqualTo("ㅇㅅ");
+  }
+
+  @Test
+  void detectsChoseongOnlyInput() {
+    assertThat(HangulUtils.isChoseongOnly("ㅇㅅㄷ")).isTrue();
+    assertThat(HangulUtils.isChoseongOnly("")).isFalse();
+    assertThat(HangulUtils.isChoseongOnly("ㅇㅅ동")).isFalse();
+    assertThat(HangulUtils.isChoseongOnly("ㅇㅏ")).isFalse();
+    assertThat(HangulUtils.isChoseongOnly("ㅇ1")).isFalse();
+  }
+}